@@ -9,9 +9,11 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
@@ -22,12 +24,16 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookJournal;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AddressBookStorageFactory;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.RecordFileAddressBookStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -43,6 +49,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected WriteBehindSaver saver;
     protected Model model;
     protected Config config;
 
@@ -57,12 +64,23 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        AddressBookJournal journal = initJournal(userPrefs);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, journal);
 
         model = initModelManager(storage, userPrefs);
+        if (journal != null) {
+            journal.track(model.getAddressBook());
+        }
+        if (addressBookStorage instanceof ShardedAddressBookStorage shardedStorage) {
+            shardedStorage.track(model.getAddressBook());
+        }
+        if (addressBookStorage instanceof RecordFileAddressBookStorage recordFileStorage) {
+            recordFileStorage.track(model.getAddressBook());
+        }
 
-        logic = new LogicManager(model, storage);
+        saver = new WriteBehindSaver(storage);
+        logic = new LogicManager(model, storage, saver);
 
         ui = new UiManager(logic);
     }
@@ -93,6 +111,33 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the storage for the address book data file, in the format set in {@code userPrefs}.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        return AddressBookStorageFactory.createStorage(userPrefs.getAddressBookFilePath(),
+                userPrefs.getStorageSettings());
+    }
+
+    /**
+     * Returns the journal to keep next to the address book data file, or null if the data file is rewritten on
+     * every save. A journal left from an earlier run with journalling is still replayed, but with no size
+     * threshold, so the first save rewrites the data file.
+     */
+    private AddressBookJournal initJournal(ReadOnlyUserPrefs userPrefs) {
+        StorageSettings storageSettings = userPrefs.getStorageSettings();
+        Path journalFilePath = AddressBookJournal.getJournalFilePath(userPrefs.getAddressBookFilePath());
+        // Incremental formats already keep saves small, and the journal would only be compacted into them
+        if (storageSettings.isJournalEnabled() && !storageSettings.getDataFileFormat().isSavedIncrementally()) {
+            return new AddressBookJournal(journalFilePath, storageSettings.getJournalCompactionThreshold(),
+                    storageSettings.getDurabilityPolicy());
+        }
+        if (FileUtil.isFileExists(journalFilePath)) {
+            return new AddressBookJournal(journalFilePath, 0, storageSettings.getDurabilityPolicy());
+        }
+        return null;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -177,6 +222,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        saver.close();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,30 @@
+package seedu.address.commons.core;
+
+/**
+ * The format the address book data file is saved in. Files in any format can be loaded whatever the setting,
+ * so changing it converts the data file the next time it is saved.
+ */
+public enum DataFileFormat {
+
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+
+    /** A compact binary format that is smaller and faster to load, but cannot be edited by hand. */
+    BINARY,
+
+    /** JSON split across several shard files, so that a save only rewrites the shards holding changed persons. */
+    SHARDED,
+
+    /**
+     * A file of fixed-size slots, one or more per person, with the order of the persons kept in a separate index,
+     * so that a save only writes the slots of changed persons.
+     */
+    RECORD_FILE;
+
+    /**
+     * Returns true if saves in this format write only what changed since the previous save.
+     */
+    public boolean isSavedIncrementally() {
+        return this == SHARDED || this == RECORD_FILE;
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.commons.core;
+
+/**
+ * How far a saved file is forced to the storage device before the save is considered done.
+ * Stronger policies survive more kinds of failure but make each save slower.
+ */
+public enum DurabilityPolicy {
+
+    /** Leaves writing to the operating system. Survives the app crashing, but not the machine losing power. */
+    NONE,
+
+    /** Forces the file content to the device before it replaces the old file. */
+    SYNC_FILE,
+
+    /** Also forces the directory entry of the replaced file, so that the replacement itself survives power loss. */
+    SYNC_FILE_AND_DIRECTORY
+}
@@ -0,0 +1,228 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * A Serializable class that contains the settings of how the address book data is stored.
+ * Guarantees: immutable.
+ */
+public class StorageSettings implements Serializable {
+
+    public static final long DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 4L * 1024 * 1024;
+    public static final DurabilityPolicy DEFAULT_DURABILITY_POLICY = DurabilityPolicy.SYNC_FILE;
+    public static final DataFileFormat DEFAULT_DATA_FILE_FORMAT = DataFileFormat.JSON;
+    public static final int DEFAULT_SHARD_COUNT = 16;
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean journalEnabled;
+    private final long journalCompactionThreshold;
+    private final DurabilityPolicy durabilityPolicy;
+    private final boolean parallelLoadEnabled;
+    private final DataFileFormat dataFileFormat;
+    private final boolean compressionEnabled;
+    private final int shardCount;
+    private final boolean compactJsonEnabled;
+
+    /**
+     * Constructs a {@code StorageSettings} with the default settings.
+     */
+    public StorageSettings() {
+        journalEnabled = false;
+        journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+        durabilityPolicy = DEFAULT_DURABILITY_POLICY;
+        parallelLoadEnabled = false;
+        dataFileFormat = DEFAULT_DATA_FILE_FORMAT;
+        compressionEnabled = false;
+        shardCount = DEFAULT_SHARD_COUNT;
+        compactJsonEnabled = false;
+    }
+
+    private StorageSettings(boolean journalEnabled, long journalCompactionThreshold,
+            DurabilityPolicy durabilityPolicy, boolean parallelLoadEnabled, DataFileFormat dataFileFormat,
+            boolean compressionEnabled, int shardCount, boolean compactJsonEnabled) {
+        this.journalEnabled = journalEnabled;
+        this.journalCompactionThreshold = journalCompactionThreshold;
+        this.durabilityPolicy = durabilityPolicy;
+        this.parallelLoadEnabled = parallelLoadEnabled;
+        this.dataFileFormat = dataFileFormat;
+        this.compressionEnabled = compressionEnabled;
+        this.shardCount = shardCount;
+        this.compactJsonEnabled = compactJsonEnabled;
+    }
+
+    /**
+     * Returns true if changes are appended to a journal next to the data file instead of rewriting the data file.
+     */
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    /**
+     * Returns the size in bytes the journal may reach before the data file is rewritten and the journal emptied.
+     */
+    public long getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    /**
+     * Returns how far saved files are forced to the storage device before a save is considered done.
+     */
+    public DurabilityPolicy getDurabilityPolicy() {
+        return durabilityPolicy;
+    }
+
+    /**
+     * Returns true if the persons in the data file are converted and validated in parallel when it is loaded.
+     */
+    public boolean isParallelLoadEnabled() {
+        return parallelLoadEnabled;
+    }
+
+    /**
+     * Returns the format the data file is saved in.
+     */
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    /**
+     * Returns true if a JSON data file is saved compressed with gzip. Compressed files are recognised on load
+     * whatever this setting is.
+     */
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    /**
+     * Returns the least number of shard files the address book is split across when it is saved in shards. Large
+     * address books are split across more, so that each shard stays small.
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Returns true if a JSON data file is saved in the compact layout, which leaves out absent fields and
+     * whitespace. Files in either layout are read whatever this setting is.
+     */
+    public boolean isCompactJsonEnabled() {
+        return compactJsonEnabled;
+    }
+
+    /**
+     * Returns a copy of these settings with the journal turned on or off.
+     */
+    public StorageSettings withJournalEnabled(boolean journalEnabled) {
+        return new StorageSettings(journalEnabled, journalCompactionThreshold, durabilityPolicy, parallelLoadEnabled,
+                dataFileFormat, compressionEnabled, shardCount, compactJsonEnabled);
+    }
+
+    /**
+     * Returns a copy of these settings with the given journal compaction threshold.
+     */
+    public StorageSettings withJournalCompactionThreshold(long journalCompactionThreshold) {
+        checkArgument(journalCompactionThreshold >= 0, "Journal compaction threshold must not be negative");
+        return new StorageSettings(journalEnabled, journalCompactionThreshold, durabilityPolicy, parallelLoadEnabled,
+                dataFileFormat, compressionEnabled, shardCount, compactJsonEnabled);
+    }
+
+    /**
+     * Returns a copy of these settings with the given durability policy.
+     */
+    public StorageSettings withDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        requireNonNull(durabilityPolicy);
+        return new StorageSettings(journalEnabled, journalCompactionThreshold, durabilityPolicy, parallelLoadEnabled,
+                dataFileFormat, compressionEnabled, shardCount, compactJsonEnabled);
+    }
+
+    /**
+     * Returns a copy of these settings with parallel loading turned on or off.
+     */
+    public StorageSettings withParallelLoadEnabled(boolean parallelLoadEnabled) {
+        return new StorageSettings(journalEnabled, journalCompactionThreshold, durabilityPolicy, parallelLoadEnabled,
+                dataFileFormat, compressionEnabled, shardCount, compactJsonEnabled);
+    }
+
+    /**
+     * Returns a copy of these settings with the given data file format.
+     */
+    public StorageSettings withDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        return new StorageSettings(journalEnabled, journalCompactionThreshold, durabilityPolicy, parallelLoadEnabled,
+                dataFileFormat, compressionEnabled, shardCount, compactJsonEnabled);
+    }
+
+    /**
+     * Returns a copy of these settings with compression turned on or off.
+     */
+    public StorageSettings withCompressionEnabled(boolean compressionEnabled) {
+        return new StorageSettings(journalEnabled, journalCompactionThreshold, durabilityPolicy, parallelLoadEnabled,
+                dataFileFormat, compressionEnabled, shardCount, compactJsonEnabled);
+    }
+
+    /**
+     * Returns a copy of these settings with the given number of shards.
+     */
+    public StorageSettings withShardCount(int shardCount) {
+        checkArgument(shardCount > 0, "Shard count must be positive");
+        return new StorageSettings(journalEnabled, journalCompactionThreshold, durabilityPolicy, parallelLoadEnabled,
+                dataFileFormat, compressionEnabled, shardCount, compactJsonEnabled);
+    }
+
+    /**
+     * Returns a copy of these settings with the compact JSON layout turned on or off.
+     */
+    public StorageSettings withCompactJsonEnabled(boolean compactJsonEnabled) {
+        return new StorageSettings(journalEnabled, journalCompactionThreshold, durabilityPolicy, parallelLoadEnabled,
+                dataFileFormat, compressionEnabled, shardCount, compactJsonEnabled);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StorageSettings)) {
+            return false;
+        }
+
+        StorageSettings otherStorageSettings = (StorageSettings) other;
+        return journalEnabled == otherStorageSettings.journalEnabled
+                && journalCompactionThreshold == otherStorageSettings.journalCompactionThreshold
+                && durabilityPolicy == otherStorageSettings.durabilityPolicy
+                && parallelLoadEnabled == otherStorageSettings.parallelLoadEnabled
+                && dataFileFormat == otherStorageSettings.dataFileFormat
+                && compressionEnabled == otherStorageSettings.compressionEnabled
+                && shardCount == otherStorageSettings.shardCount
+                && compactJsonEnabled == otherStorageSettings.compactJsonEnabled;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(journalEnabled, journalCompactionThreshold, durabilityPolicy, parallelLoadEnabled,
+                dataFileFormat, compressionEnabled, shardCount, compactJsonEnabled);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("journalEnabled", journalEnabled)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("durabilityPolicy", durabilityPolicy)
+                .add("parallelLoadEnabled", parallelLoadEnabled)
+                .add("dataFileFormat", dataFileFormat)
+                .add("compressionEnabled", compressionEnabled)
+                .add("shardCount", shardCount)
+                .add("compactJsonEnabled", compactJsonEnabled)
+                .toString();
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Finds whether a text contains any of a fixed set of keywords, reading each character of the text once however
+ * many keywords there are. Matching is exact, so callers wanting case-insensitive matching should give the keywords
+ * and the text in the same case.
+ *
+ * Backed by an Aho-Corasick automaton compiled to a deterministic transition table. The characters of the keywords
+ * are numbered from 1, and every other character is numbered 0, which leads back to the start from any state.
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ASCII_LIMIT = 128;
+
+    // The distinct characters of the keywords, in ascending order; the character alphabet[i] is numbered i + 1
+    private final char[] alphabet;
+    private final int[] asciiSymbols = new int[ASCII_LIMIT];
+    private final int symbolCount;
+
+    // The state reached from state s on symbol a is transitions[s * symbolCount + a]
+    private final int[] transitions;
+    // Whether reaching a state means one of the keywords ends at the character read
+    private final boolean[] isAccepting;
+
+    /**
+     * Creates a matcher of {@code keywords}, none of which may be empty.
+     */
+    public AhoCorasickMatcher(List<String> keywords) {
+        requireNonNull(keywords);
+        int maxStateCount = 1;
+        StringBuilder characters = new StringBuilder();
+        for (String keyword : keywords) {
+            checkArgument(!keyword.isEmpty(), "Keywords must not be empty");
+            maxStateCount += keyword.length();
+            characters.append(keyword);
+        }
+
+        char[] sortedCharacters = characters.toString().toCharArray();
+        Arrays.sort(sortedCharacters);
+        int distinctCount = 0;
+        for (char c : sortedCharacters) {
+            if (distinctCount == 0 || sortedCharacters[distinctCount - 1] != c) {
+                sortedCharacters[distinctCount++] = c;
+            }
+        }
+        alphabet = Arrays.copyOf(sortedCharacters, distinctCount);
+        for (int i = 0; i < alphabet.length && alphabet[i] < ASCII_LIMIT; i++) {
+            asciiSymbols[alphabet[i]] = i + 1;
+        }
+        symbolCount = alphabet.length + 1;
+
+        int[] table = new int[maxStateCount * symbolCount];
+        Arrays.fill(table, -1);
+        boolean[] accepting = new boolean[maxStateCount];
+        int stateCount = 1;
+        for (String keyword : keywords) {
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int index = state * symbolCount + toSymbol(keyword.charAt(i));
+                if (table[index] == -1) {
+                    table[index] = stateCount++;
+                }
+                state = table[index];
+            }
+            accepting[state] = true;
+        }
+        transitions = Arrays.copyOf(table, stateCount * symbolCount);
+        isAccepting = Arrays.copyOf(accepting, stateCount);
+        fillMissingTransitions(stateCount);
+    }
+
+    /**
+     * Replaces each missing transition of the trie with the transition from the state of the longest proper suffix
+     * of its path that is also in the trie, visiting the states breadth-first so that suffix states come first.
+     */
+    private void fillMissingTransitions(int stateCount) {
+        int[] fallbacks = new int[stateCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < symbolCount; symbol++) {
+            int next = transitions[symbol];
+            if (next == -1) {
+                transitions[symbol] = 0;
+            } else {
+                // The states one character from the start fall back to the start
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            isAccepting[state] |= isAccepting[fallbacks[state]];
+            for (int symbol = 0; symbol < symbolCount; symbol++) {
+                int index = state * symbolCount + symbol;
+                int fallbackNext = transitions[fallbacks[state] * symbolCount + symbol];
+                if (transitions[index] == -1) {
+                    transitions[index] = fallbackNext;
+                } else {
+                    fallbacks[transitions[index]] = fallbackNext;
+                    queue.add(transitions[index]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code text} contains any of the keywords.
+     */
+    public boolean containsAny(String text) {
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            state = transitions[state * symbolCount + toSymbol(text.charAt(i))];
+            if (isAccepting[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int toSymbol(char c) {
+        if (c < ASCII_LIMIT) {
+            return asciiSymbols[c];
+        }
+        int index = Arrays.binarySearch(alphabet, c);
+        return index < 0 ? 0 : index + 1;
+    }
+}
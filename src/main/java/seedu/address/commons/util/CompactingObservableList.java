@@ -0,0 +1,202 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose bulk operations run in a single pass over the list and notify listeners with
+ * a single change.
+ *
+ * The default implementations in {@code ModifiableObservableListBase} remove elements one at a time, so removing
+ * k elements from a list of n shifts the backing array k times. This list instead compacts the array once and
+ * reports every removed range in one {@code ListChangeListener.Change}, and likewise inserts elements at scattered
+ * positions in one pass.
+ */
+public class CompactingObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final ArrayList<E> elements = new ArrayList<>();
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+
+    /**
+     * Removes the elements at the positions set in {@code positions} in one pass over the list.
+     * Listeners are notified of all the removals in a single change.
+     *
+     * @throws IndexOutOfBoundsException if a set position is not in the list.
+     */
+    public void removeAt(BitSet positions) {
+        requireNonNull(positions);
+        int size = elements.size();
+        if (positions.length() > size) {
+            throw new IndexOutOfBoundsException("Index: " + (positions.length() - 1) + ", Size: " + size);
+        }
+        int first = positions.nextSetBit(0);
+        if (first < 0) {
+            return;
+        }
+
+        beginChange();
+        try {
+            int write = first;
+            int read = first;
+            while (read < size) {
+                if (!positions.get(read)) {
+                    elements.set(write++, elements.get(read++));
+                    continue;
+                }
+                int runEnd = positions.nextClearBit(read);
+                // Each run is reported at its position after the earlier runs were removed
+                nextRemove(write, new ArrayList<>(elements.subList(read, runEnd)));
+                read = runEnd;
+            }
+            elements.subList(write, size).clear();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Inserts {@code newElements} so that each ends up at the matching position of {@code positions}, which must
+     * be in increasing order, in one pass over the list. Listeners are notified of all the insertions in a single
+     * change. This is the inverse of {@link #removeAt(BitSet)}.
+     *
+     * @throws IndexOutOfBoundsException if a position is outside the list after the insertions.
+     */
+    public void insertAt(int[] positions, List<? extends E> newElements) {
+        requireNonNull(positions);
+        requireNonNull(newElements);
+        if (positions.length != newElements.size()) {
+            throw new IllegalArgumentException("Expected one position per element.");
+        }
+        if (positions.length == 0) {
+            return;
+        }
+        int newSize = elements.size() + positions.length;
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] < 0 || positions[i] >= newSize || (i > 0 && positions[i] <= positions[i - 1])) {
+                throw new IndexOutOfBoundsException("Index: " + positions[i] + ", Size: " + newSize);
+            }
+        }
+
+        beginChange();
+        try {
+            List<E> merged = new ArrayList<>(newSize);
+            int read = 0;
+            int inserted = 0;
+            while (inserted < positions.length) {
+                if (merged.size() < positions[inserted]) {
+                    merged.add(elements.get(read++));
+                    continue;
+                }
+                int runStart = merged.size();
+                while (inserted < positions.length && positions[inserted] == merged.size()) {
+                    merged.add(newElements.get(inserted++));
+                }
+                nextAdd(runStart, merged.size());
+            }
+            merged.addAll(elements.subList(read, elements.size()));
+            elements.clear();
+            elements.addAll(merged);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        beginChange();
+        try {
+            List<E> removed = elements.subList(fromIndex, toIndex);
+            nextRemove(fromIndex, new ArrayList<>(removed));
+            removed.clear();
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> newElements) {
+        requireNonNull(newElements);
+        List<E> added = new ArrayList<>(newElements);
+        beginChange();
+        try {
+            List<E> removed = new ArrayList<>(elements);
+            elements.clear();
+            elements.addAll(added);
+            nextReplace(0, added.size(), removed);
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the list with a stable sort and notifies listeners with a single permutation change.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super E> comparator) {
+        Comparator<? super E> order = comparator != null
+                ? comparator
+                : (Comparator<? super E>) Comparator.naturalOrder();
+        int size = elements.size();
+        if (size < 2) {
+            return;
+        }
+        Integer[] sortedIndices = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            sortedIndices[i] = i;
+        }
+        Arrays.sort(sortedIndices, (first, second) -> order.compare(elements.get(first), elements.get(second)));
+
+        int[] permutation = new int[size];
+        List<E> sorted = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            permutation[sortedIndices[i]] = i;
+            sorted.add(elements.get(sortedIndices[i]));
+        }
+
+        beginChange();
+        try {
+            elements.clear();
+            elements.addAll(sorted);
+            nextPermutation(0, size, permutation);
+        } finally {
+            endChange();
+        }
+    }
+}
@@ -1,10 +1,28 @@
 package seedu.address.commons.util;
 
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.DurabilityPolicy;
 
 /**
  * Writes and reads files
@@ -13,6 +31,9 @@ public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
 
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -80,4 +101,119 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Replaces the content of {@code file} with {@code content}, such that a crash during the write leaves either
+     * the old or the new content in {@code file} but never a partly written one.
+     * The content goes to a temporary file next to {@code file}, is forced to the device as required by
+     * {@code durability}, and the temporary file is then renamed over {@code file}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content, DurabilityPolicy durability)
+            throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)), durability);
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String, DurabilityPolicy)}, but the content is written by
+     * {@code contentWriter} straight to the file, so it never has to be held in memory as a whole.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter, DurabilityPolicy durability)
+            throws IOException {
+        createParentDirsOfFile(file);
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                if (durability != DurabilityPolicy.NONE) {
+                    channel.force(true);
+                }
+            }
+            moveReplacing(tempFile, file);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        if (durability == DurabilityPolicy.SYNC_FILE_AND_DIRECTORY) {
+            syncDirectory(file.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Appends {@code content} to the end of {@code file}, forcing it to the device unless {@code durability} is
+     * {@code NONE}. Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content, DurabilityPolicy durability) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, APPEND)) {
+            writeFully(channel, content);
+            if (durability != DurabilityPolicy.NONE) {
+                channel.force(true);
+            }
+        }
+    }
+
+    /**
+     * Deletes {@code directory} and everything in it, if it exists.
+     */
+    public static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    /**
+     * Returns a string that identifies the file {@code file} as it is now, and changes when the file is replaced
+     * or written to.
+     */
+    public static String getFingerprint(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return attributes.size() + ":" + attributes.lastModifiedTime().toMillis() + ":" + attributes.fileKey();
+    }
+
+    private static void writeFully(FileChannel channel, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void syncDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, READ);
+        } catch (IOException e) {
+            // Some platforms, such as Windows, cannot open a directory to force it
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, which the caller flushes and closes.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
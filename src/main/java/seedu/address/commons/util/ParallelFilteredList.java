@@ -0,0 +1,250 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of an observable list, like {@code FilteredList}, that tests the elements of large lists in
+ * parallel.
+ *
+ * When a new predicate is set, or a change to the source list adds at least {@code parallelThreshold} elements,
+ * the elements are tested in chunks on the common fork-join pool, each chunk setting its own words of a bitmap of
+ * matches. The view is then updated from the bitmap, and listeners are notified with a single change. Fewer
+ * elements are tested on the calling thread. A predicate used with a large list must therefore be safe to call
+ * from several threads at once.
+ *
+ * As with {@code FilteredList}, a null predicate shows every element, and setting the predicate the view already
+ * has does not test the elements again.
+ */
+public class ParallelFilteredList<E> extends TransformationList<E, E> {
+
+    /** The number of elements tested by each task, a multiple of the 64 bits of a bitmap word. */
+    static final int CHUNK_SIZE = 64 * 256;
+
+    private Predicate<? super E> predicate;
+    private int parallelThreshold;
+
+    // The ascending source indices of the elements in the view; only the first size are used
+    private int[] sourceIndices;
+    private int size;
+
+    /**
+     * Creates a view of every element of {@code source} that tests at least {@code parallelThreshold} elements at
+     * a time in parallel.
+     */
+    public ParallelFilteredList(ObservableList<E> source, int parallelThreshold) {
+        super(source);
+        setParallelThreshold(parallelThreshold);
+        size = source.size();
+        sourceIndices = IntStream.range(0, size).toArray();
+    }
+
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows only the elements of the source list accepted by {@code predicate}, or every element if it is null.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        if (predicate == this.predicate) {
+            return;
+        }
+        this.predicate = predicate;
+        refilter();
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Sets the fewest elements that are tested in parallel.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        checkArgument(parallelThreshold > 0, "Parallel threshold must be positive");
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        Objects.checkIndex(index, size);
+        return sourceIndices[index];
+    }
+
+    @Override
+    public int getViewIndex(int sourceIndex) {
+        int position = Arrays.binarySearch(sourceIndices, 0, size, sourceIndex);
+        return position < 0 ? -1 : position;
+    }
+
+    private void refilter() {
+        ObservableList<? extends E> source = getSource();
+        List<E> removed = hasListeners() ? new ArrayList<>(this) : null;
+        BitSet matches = test(source);
+        size = matches.cardinality();
+        sourceIndices = matches.stream().toArray();
+
+        beginChange();
+        if (removed != null && !removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the positions in {@code elements} of the elements accepted by the predicate.
+     */
+    private BitSet test(List<? extends E> elements) {
+        Predicate<? super E> currentPredicate = predicate;
+        int elementCount = elements.size();
+        long[] words = new long[(elementCount + Long.SIZE - 1) / Long.SIZE];
+        if (elementCount >= parallelThreshold && elementCount > CHUNK_SIZE) {
+            // The chunks start on word boundaries, so no two tasks write the same word
+            IntStream.range(0, (elementCount + CHUNK_SIZE - 1) / CHUNK_SIZE).parallel().forEach(chunk ->
+                    test(elements, chunk * CHUNK_SIZE, Math.min(elementCount, (chunk + 1) * CHUNK_SIZE),
+                            currentPredicate, words));
+        } else {
+            test(elements, 0, elementCount, currentPredicate, words);
+        }
+        return BitSet.valueOf(words);
+    }
+
+    private static <E> void test(List<? extends E> elements, int from, int to, Predicate<? super E> predicate,
+            long[] words) {
+        for (int i = from; i < to; i++) {
+            if (predicate == null || predicate.test(elements.get(i))) {
+                words[i / Long.SIZE] |= 1L << i;
+            }
+        }
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                addRemove(change);
+            }
+        }
+        endChange();
+    }
+
+    private void permute(Change<? extends E> change) {
+        int from = findPosition(change.getFrom());
+        int to = findPosition(change.getTo());
+        if (from == to) {
+            return;
+        }
+        // Each key holds the new source index of an element above its old position in the view
+        long[] keys = new long[to - from];
+        for (int i = from; i < to; i++) {
+            keys[i - from] = ((long) change.getPermutation(sourceIndices[i]) << Integer.SIZE) | i;
+        }
+        Arrays.sort(keys);
+        int[] permutation = new int[to - from];
+        for (int i = from; i < to; i++) {
+            long key = keys[i - from];
+            sourceIndices[i] = (int) (key >>> Integer.SIZE);
+            permutation[(int) key - from] = i;
+        }
+        nextPermutation(from, to, permutation);
+    }
+
+    private void update(Change<? extends E> change) {
+        Predicate<? super E> currentPredicate = predicate;
+        for (int sourceIndex = change.getFrom(); sourceIndex < change.getTo(); sourceIndex++) {
+            E element = getSource().get(sourceIndex);
+            boolean isMatch = currentPredicate == null || currentPredicate.test(element);
+            int position = findPosition(sourceIndex);
+            boolean isShown = position < size && sourceIndices[position] == sourceIndex;
+            if (isShown && isMatch) {
+                nextUpdate(position);
+            } else if (isShown) {
+                System.arraycopy(sourceIndices, position + 1, sourceIndices, position, size - position - 1);
+                size--;
+                nextRemove(position, element);
+            } else if (isMatch) {
+                ensureCapacity(size + 1);
+                System.arraycopy(sourceIndices, position, sourceIndices, position + 1, size - position);
+                sourceIndices[position] = sourceIndex;
+                size++;
+                nextAdd(position, position + 1);
+            }
+        }
+    }
+
+    private void addRemove(Change<? extends E> change) {
+        int sourceFrom = change.getFrom();
+        int from = findPosition(sourceFrom);
+        int to = findPosition(sourceFrom + change.getRemovedSize());
+        if (to > from) {
+            List<? extends E> sourceRemoved = change.getRemoved();
+            List<E> removed = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                removed.add(sourceRemoved.get(sourceIndices[i] - sourceFrom));
+            }
+            nextRemove(from, removed);
+        }
+
+        BitSet matches = test(change.getAddedSubList());
+        int addedCount = matches.cardinality();
+        int newSize = size - (to - from) + addedCount;
+        ensureCapacity(newSize);
+        System.arraycopy(sourceIndices, to, sourceIndices, from + addedCount, size - to);
+        int shift = change.getAddedSize() - change.getRemovedSize();
+        for (int i = from + addedCount; i < newSize; i++) {
+            sourceIndices[i] += shift;
+        }
+        int position = from;
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            sourceIndices[position++] = sourceFrom + i;
+        }
+        size = newSize;
+        if (addedCount > 0) {
+            nextAdd(from, from + addedCount);
+        }
+    }
+
+    /**
+     * Returns the position in the view of the first element whose source index is at least {@code sourceIndex}.
+     */
+    private int findPosition(int sourceIndex) {
+        int position = Arrays.binarySearch(sourceIndices, 0, size, sourceIndex);
+        return position < 0 ? -position - 1 : position;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > sourceIndices.length) {
+            sourceIndices = Arrays.copyOf(sourceIndices, Math.max(capacity, sourceIndices.length * 2));
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that shares structure between its versions.
+ * Every update returns a new list in O(log n) time and space and leaves the original untouched,
+ * so many versions of a large list can be kept alive at the cost of the differences between them.
+ *
+ * Backed by a size-annotated AVL tree ordered by position.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list holding the elements of {@code elements} in the same order.
+     * Runs in O(n) time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements.isEmpty()) {
+            return empty();
+        }
+        Object[] array = elements.toArray();
+        return new PersistentList<>(build(array, 0, array.length));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<E> set(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(setNode(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the end.
+     */
+    public PersistentList<E> add(E element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<E> add(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insertNode(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(removeNode(root, index));
+    }
+
+    /**
+     * Returns a new mutable {@code List} holding the elements of this list in order.
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size());
+        for (E element : this) {
+            list.add(element);
+        }
+        return list;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        return toList().equals(otherList.toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), (E) elements[mid], build(elements, mid + 1, to));
+    }
+
+    private static <E> Node<E> setNode(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(setNode(node.left, index, element), node.value, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        } else {
+            return new Node<>(node.left, node.value, setNode(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> insertNode(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insertNode(node.left, index, element), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, insertNode(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> removeNode(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(removeNode(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, removeNode(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(node.left, successor.value, removeNode(node.right, 0));
+        }
+    }
+
+    /**
+     * Joins {@code left}, {@code value} and {@code right} into a node, rotating once if the heights of
+     * the two subtrees differ by two (the most a single insertion or removal can cause).
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            return new Node<>(new Node<>(left.left, left.value, left.right.left), left.right.value,
+                    new Node<>(left.right.right, value, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            return new Node<>(new Node<>(left, value, right.left.left), right.left.value,
+                    new Node<>(right.left.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    /**
+     * An immutable tree node. Nodes are never modified after construction, which is what allows
+     * different versions of the list to share them.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final E value;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Walks the tree in order using an explicit stack of at most O(log n) nodes.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> stack = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftSpine(root);
+        }
+
+        private void pushLeftSpine(Node<E> node) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = stack.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +24,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler that receives an error message when saving in the background fails.
+     * The handler may be called from a thread other than the one that executed the command.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
     /**
      * Returns the AddressBook.
      *
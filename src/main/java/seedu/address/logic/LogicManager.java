@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,6 +20,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
@@ -33,13 +37,44 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    /** Saves the address book in the background, or null if saves are made before a command returns. */
+    private final WriteBehindSaver saver;
+    private volatile Consumer<String> saveErrorHandler = message -> {};
+
+    /** Version of the address book last written to storage; the initial data is taken to be already stored. */
+    private volatile long savedAddressBookVersion;
+
+    /** Version of the address book last handed to the saver, reset to the saved version when a save fails. */
+    private volatile long scheduledAddressBookVersion;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The address book is saved before each command that modified it returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves the
+     * address book in the background through {@code saver}, unless {@code saver} is null.
+     * Errors from background saves are passed to the handler set with {@link #setSaveErrorHandler(Consumer)}.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindSaver saver) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBook().getVersion();
+        scheduledAddressBookVersion = savedAddressBookVersion;
+        if (saver != null) {
+            saver.setSuccessHandler(saved -> savedAddressBookVersion = saved.getVersion());
+            saver.setErrorHandler(e -> {
+                // The next command schedules the unsaved changes again
+                scheduledAddressBookVersion = savedAddressBookVersion;
+                saveErrorHandler.accept(toSaveErrorMessage(e));
+            });
+        }
     }
 
     @Override
@@ -50,17 +85,43 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        if (addressBook.getVersion() == savedAddressBookVersion) {
+            return commandResult;
+        }
+
+        if (saver != null) {
+            if (addressBook.getVersion() != scheduledAddressBookVersion) {
+                // Set first, so that a failure of this very save is not overwritten
+                scheduledAddressBookVersion = addressBook.getVersion();
+                saver.save(model.getAddressBookSnapshot());
+            }
+            return commandResult;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBook(addressBook);
+            savedAddressBookVersion = addressBook.getVersion();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(toSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    private static String toSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -117,21 +117,26 @@ public class DeleteCommand extends Command {
             }
         }
 
-        // Sort indices in descending order to avoid index shifting
+        // Collect the persons in descending index order, skipping repeated indices
         List<Index> sortedIndices = new ArrayList<>(targetIndices);
         sortedIndices.sort((a, b) -> Integer.compare(b.getZeroBased(), a.getZeroBased()));
 
+        List<Person> personsToDelete = new ArrayList<>();
         List<String> deletedPersons = new ArrayList<>();
-
-        // Delete each person
+        int previousIndex = -1;
         for (Index idx : sortedIndices) {
-            if (idx.getZeroBased() < lastShownList.size()) {
-                Person personToDelete = lastShownList.get(idx.getZeroBased());
-                model.deletePerson(personToDelete);
-                deletedPersons.add(Messages.format(personToDelete));
+            if (idx.getZeroBased() == previousIndex) {
+                continue;
             }
+            previousIndex = idx.getZeroBased();
+            Person personToDelete = lastShownList.get(idx.getZeroBased());
+            personsToDelete.add(personToDelete);
+            deletedPersons.add(Messages.format(personToDelete));
         }
 
+        // Delete all of them in one pass over the address book
+        model.deletePersons(personsToDelete);
+
         // Commit changes to model
         model.commitAddressBook();
 
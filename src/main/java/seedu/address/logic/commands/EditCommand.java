@@ -100,18 +100,8 @@ public class EditCommand extends Command {
 
         Person editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
-        // Check for duplicates by comparing against all persons in the address book
-        List<Person> allPersons = model.getAddressBook().getPersonList();
-        for (Person p : allPersons) {
-            // Skip the person being edited
-            if (p.equals(personToEdit)) {
-                continue;
-            }
-            // Check if any other person has the same name and phone
-            if (p.getName().equals(editedPerson.getName())
-                    && p.getPhone().equals(editedPerson.getPhone())) {
-                throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-            }
+        if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
+            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
         }
 
         model.setPerson(personToEdit, editedPerson);
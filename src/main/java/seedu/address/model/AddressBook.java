@@ -2,12 +2,22 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -16,7 +26,21 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // One background thread builds the search indexes of every address book, one after another
+    private static final ExecutorService SEARCH_INDEX_BUILDER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final UniquePersonList persons;
+    private long version;
+    private TrigramIndex searchIndex;
+    private CompletableFuture<TrigramIndex> pendingSearchIndex;
+    // Changes to the person list since the snapshot the pending search index is built from
+    private final List<Consumer<TrigramIndex>> pendingSearchIndexChanges = new ArrayList<>();
+    // Number of persons removed or added by the pending search index changes
+    private int pendingSearchIndexChangedPersons;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,6 +51,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        // Every mutation of the person list, however it is made, notifies this listener exactly once
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> version++);
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            if (searchIndex == null && pendingSearchIndex == null) {
+                return;
+            }
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                if (searchIndex != null) {
+                    searchIndex.replace(change.getRemoved(), change.getAddedSubList());
+                } else {
+                    List<Person> removed = new ArrayList<>(change.getRemoved());
+                    List<Person> added = new ArrayList<>(change.getAddedSubList());
+                    pendingSearchIndexChanges.add(index -> index.replace(removed, added));
+                    pendingSearchIndexChangedPersons += removed.size() + added.size();
+                }
+            }
+            if (pendingSearchIndex != null && pendingSearchIndexChangedPersons > change.getList().size()) {
+                // Replaying the changes would cost as much as indexing the persons afresh, so the next search
+                // starts building the index again from the list as it is then
+                discardPendingSearchIndex();
+            }
+        });
     }
 
     public AddressBook() {}
@@ -51,13 +100,35 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * Copying from another {@code AddressBook} skips the uniqueness check, as its persons are already unique.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).persons);
+            return;
+        }
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Returns an immutable snapshot of the persons in this {@code AddressBook}, taken in O(1).
+     *
+     * @see #restore(PersistentList)
+     */
+    public PersistentList<Person> snapshot() {
+        return persons.snapshot();
+    }
+
+    /**
+     * Restores the persons of this {@code AddressBook} to a {@code snapshot} previously taken with
+     * {@link #snapshot()}.
+     */
+    public void restore(PersistentList<Person> snapshot) {
+        persons.restore(snapshot);
+    }
+
     /**
      * Sorts person list using given comparator
      */
@@ -83,6 +154,29 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Inserts a person into the address book at {@code index}.
+     * The person must not already exist in the address book.
+     */
+    public void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
+    /**
+     * Inserts {@code persons} into the address book in a single pass, each at the matching index of
+     * {@code indices}, which must be in increasing order. None of the persons may already exist in the address book.
+     */
+    public void addPersons(int[] indices, List<Person> persons) {
+        this.persons.addAll(indices, persons);
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    public int indexOf(Person person) {
+        return persons.indexOf(person);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -102,6 +196,76 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code AddressBook} in a single pass.
+     * Every person in {@code keys} must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+    }
+
+    /**
+     * Starts building the trigram index of the persons in this {@code AddressBook} on a background thread, unless
+     * it is already built or being built. The index is built from a snapshot of the person list; changes made
+     * while it is built are applied to it once it is taken into use, and it is kept up to date after that.
+     */
+    public void buildSearchIndex() {
+        if (searchIndex != null || pendingSearchIndex != null) {
+            return;
+        }
+        PersistentList<Person> snapshot = persons.snapshot();
+        pendingSearchIndex = CompletableFuture.supplyAsync(() -> new TrigramIndex(snapshot.toList()),
+                SEARCH_INDEX_BUILDER);
+    }
+
+    /**
+     * Returns the trigram index of the persons in this {@code AddressBook} for substring searches, or an empty
+     * {@code Optional} if it is still being built. Starts building it if it is not.
+     */
+    public Optional<TrigramIndex> getBuiltSearchIndex() {
+        buildSearchIndex();
+        if (searchIndex == null && pendingSearchIndex.isDone()) {
+            takeSearchIndex();
+        }
+        return Optional.ofNullable(searchIndex);
+    }
+
+    /**
+     * Returns the trigram index of the persons in this {@code AddressBook} for substring searches, waiting for it
+     * to be built if it is not yet.
+     */
+    public TrigramIndex getSearchIndex() {
+        buildSearchIndex();
+        if (searchIndex == null) {
+            pendingSearchIndex.join();
+            takeSearchIndex();
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Takes the finished pending search index into use, bringing it up to date with the changes made while it was
+     * built. If building it failed, it is discarded so that the next search starts building it again.
+     */
+    private void takeSearchIndex() {
+        if (!pendingSearchIndex.isCompletedExceptionally()) {
+            searchIndex = pendingSearchIndex.join();
+            pendingSearchIndexChanges.forEach(change -> change.accept(searchIndex));
+        }
+        discardPendingSearchIndex();
+    }
+
+    /**
+     * Drops the pending search index and the changes waiting to be applied to it. A build that has not started
+     * yet is skipped.
+     */
+    private void discardPendingSearchIndex() {
+        pendingSearchIndex.cancel(false);
+        pendingSearchIndex = null;
+        pendingSearchIndexChanges.clear();
+        pendingSearchIndexChangedPersons = 0;
+    }
+
     //// util methods
 
     @Override
@@ -116,6 +280,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,250 @@
+package seedu.address.model;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An invertible change to an {@code AddressBook}, recorded so that it can be undone and redone.
+ * Each change also carries a rough estimate of the memory it keeps alive.
+ */
+abstract class AddressBookChange {
+
+    /** Approximate size of a {@code Person} and its field objects, excluding the characters of its strings. */
+    private static final long PERSON_OVERHEAD_BYTES = 256;
+
+    /** Approximate size of a change object or of one node of a {@code PersistentList}. */
+    private static final long NODE_BYTES = 40;
+
+    /**
+     * Reverts this change on {@code addressBook}, which must be in the state right after the change.
+     */
+    abstract void undo(AddressBook addressBook);
+
+    /**
+     * Reapplies this change on {@code addressBook}, which must be in the state right before the change.
+     */
+    abstract void redo(AddressBook addressBook);
+
+    /**
+     * Returns the approximate number of bytes kept alive by this change.
+     */
+    abstract long estimatedSize();
+
+    /**
+     * Returns a change recording that {@code person} was inserted at {@code index}.
+     */
+    static AddressBookChange added(int index, Person person) {
+        return new PersonAdded(index, person);
+    }
+
+    /**
+     * Returns a change recording that {@code person} was removed from {@code index}.
+     */
+    static AddressBookChange removed(int index, Person person) {
+        return new PersonRemoved(index, person);
+    }
+
+    /**
+     * Returns a change recording that {@code persons} were removed together, each from the matching index of
+     * {@code indices}, which are in increasing order.
+     */
+    static AddressBookChange removedAll(int[] indices, List<Person> persons) {
+        return new PersonsRemoved(indices, persons);
+    }
+
+    /**
+     * Returns a change recording that {@code before} was replaced by {@code after}.
+     */
+    static AddressBookChange edited(Person before, Person after) {
+        return new PersonEdited(before, after);
+    }
+
+    /**
+     * Returns a change recording that the whole person list went from {@code before} to {@code after},
+     * e.g. by sorting or clearing.
+     */
+    static AddressBookChange replaced(PersistentList<Person> before, PersistentList<Person> after) {
+        return new ListReplaced(before, after);
+    }
+
+    private static long estimateSize(Person person) {
+        long chars = person.getName().fullName.length() + person.getPhone().value.length();
+        if (person.getEmail() != null) {
+            chars += person.getEmail().value.length();
+        }
+        if (person.getAddress() != null) {
+            chars += person.getAddress().value.length();
+        }
+        if (person.getCompany() != null) {
+            chars += person.getCompany().value.length();
+        }
+        Note note = person.getNote();
+        if (note != null) {
+            chars += note.value.length();
+        }
+        for (Tag tag : person.getTags()) {
+            chars += tag.tagName.length();
+        }
+        return PERSON_OVERHEAD_BYTES + 2 * chars;
+    }
+
+    private static class PersonAdded extends AddressBookChange {
+        private final int index;
+        private final Person person;
+
+        PersonAdded(int index, Person person) {
+            this.index = index;
+            this.person = person;
+        }
+
+        @Override
+        void undo(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        void redo(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+
+        @Override
+        long estimatedSize() {
+            return NODE_BYTES + estimateSize(person);
+        }
+    }
+
+    private static class PersonRemoved extends AddressBookChange {
+        private final int index;
+        private final Person person;
+
+        PersonRemoved(int index, Person person) {
+            this.index = index;
+            this.person = person;
+        }
+
+        @Override
+        void undo(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+
+        @Override
+        void redo(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        long estimatedSize() {
+            return NODE_BYTES + estimateSize(person);
+        }
+    }
+
+    /**
+     * A bulk delete, undone by putting every person back in one pass instead of one insertion at a time.
+     */
+    private static class PersonsRemoved extends AddressBookChange {
+        private final int[] indices;
+        private final List<Person> persons;
+
+        PersonsRemoved(int[] indices, List<Person> persons) {
+            this.indices = indices;
+            this.persons = persons;
+        }
+
+        @Override
+        void undo(AddressBook addressBook) {
+            addressBook.addPersons(indices, persons);
+        }
+
+        @Override
+        void redo(AddressBook addressBook) {
+            addressBook.removePersons(persons);
+        }
+
+        @Override
+        long estimatedSize() {
+            long size = NODE_BYTES + (long) Integer.BYTES * indices.length;
+            for (Person person : persons) {
+                size += NODE_BYTES + estimateSize(person);
+            }
+            return size;
+        }
+    }
+
+    private static class PersonEdited extends AddressBookChange {
+        private final Person before;
+        private final Person after;
+
+        PersonEdited(Person before, Person after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        void undo(AddressBook addressBook) {
+            addressBook.setPerson(after, before);
+        }
+
+        @Override
+        void redo(AddressBook addressBook) {
+            addressBook.setPerson(before, after);
+        }
+
+        @Override
+        long estimatedSize() {
+            return NODE_BYTES + estimateSize(before) + estimateSize(after);
+        }
+    }
+
+    /**
+     * Whole-list changes keep O(1) snapshots of both states. Besides the tree nodes, the persons of the earlier
+     * state that the later one no longer holds, such as every person removed by a {@code clear}, are kept alive
+     * by the change alone and are counted too.
+     */
+    private static class ListReplaced extends AddressBookChange {
+        private final PersistentList<Person> before;
+        private final PersistentList<Person> after;
+        private final long size;
+
+        ListReplaced(PersistentList<Person> before, PersistentList<Person> after) {
+            this.before = before;
+            this.after = after;
+            this.size = NODE_BYTES * (1 + before.size() + after.size()) + estimateDroppedPersonsSize(before, after);
+        }
+
+        private static long estimateDroppedPersonsSize(PersistentList<Person> before, PersistentList<Person> after) {
+            Set<Person> kept = Collections.newSetFromMap(new IdentityHashMap<>(after.size()));
+            for (Person person : after) {
+                kept.add(person);
+            }
+            long droppedSize = 0;
+            for (Person person : before) {
+                if (!kept.contains(person)) {
+                    droppedSize += estimateSize(person);
+                }
+            }
+            return droppedSize;
+        }
+
+        @Override
+        void undo(AddressBook addressBook) {
+            addressBook.restore(before);
+        }
+
+        @Override
+        void redo(AddressBook addressBook) {
+            addressBook.restore(after);
+        }
+
+        @Override
+        long estimatedSize() {
+            return size;
+        }
+    }
+}
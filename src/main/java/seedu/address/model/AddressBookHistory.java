@@ -0,0 +1,137 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Undo/redo history of an {@code AddressBook}, kept as a log of invertible changes rather than whole copies.
+ *
+ * Changes are recorded as they happen and grouped into one entry per {@link #commit(long)}. The total size of
+ * the entries is kept within a byte budget by dropping the oldest undoable entries first; the most recent entry
+ * is always kept so that the last action can be undone.
+ */
+class AddressBookHistory {
+
+    /** Committed entries that can be undone, most recent first. */
+    private final Deque<Entry> undoStack = new ArrayDeque<>();
+
+    /** Undone entries that can be redone, most recently undone first. */
+    private final Deque<Entry> redoStack = new ArrayDeque<>();
+
+    /** Changes made since the last commit. */
+    private final List<AddressBookChange> pendingChanges = new ArrayList<>();
+
+    private long totalSize;
+
+    /**
+     * Records a change made to the address book since the last commit.
+     */
+    void record(AddressBookChange change) {
+        requireNonNull(change);
+        pendingChanges.add(change);
+    }
+
+    /**
+     * Groups the changes recorded since the last commit into one undoable entry, discards the redo history,
+     * then drops the oldest entries until the history fits in {@code byteBudget}.
+     * Does nothing if no change was recorded.
+     */
+    void commit(long byteBudget) {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        Entry entry = new Entry(pendingChanges);
+        pendingChanges.clear();
+        undoStack.push(entry);
+        totalSize += entry.size;
+
+        for (Entry discarded : redoStack) {
+            totalSize -= discarded.size;
+        }
+        redoStack.clear();
+
+        while (totalSize > byteBudget && undoStack.size() > 1) {
+            totalSize -= undoStack.removeLast().size;
+        }
+    }
+
+    boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Reverts {@code addressBook} to the state before the last committed entry.
+     * Uncommitted changes are reverted as well.
+     */
+    void undo(AddressBook addressBook) {
+        if (!canUndo()) {
+            throw new IllegalStateException("No previous state to undo to");
+        }
+        revertPendingChanges(addressBook);
+        Entry entry = undoStack.pop();
+        entry.undo(addressBook);
+        redoStack.push(entry);
+    }
+
+    /**
+     * Reapplies the last undone entry on {@code addressBook}.
+     * Uncommitted changes are reverted first.
+     */
+    void redo(AddressBook addressBook) {
+        if (!canRedo()) {
+            throw new IllegalStateException("No next state to redo to");
+        }
+        revertPendingChanges(addressBook);
+        Entry entry = redoStack.pop();
+        entry.redo(addressBook);
+        undoStack.push(entry);
+    }
+
+    /**
+     * Returns the approximate number of bytes held by the history.
+     */
+    long getTotalSize() {
+        return totalSize;
+    }
+
+    private void revertPendingChanges(AddressBook addressBook) {
+        for (int i = pendingChanges.size() - 1; i >= 0; i--) {
+            pendingChanges.get(i).undo(addressBook);
+        }
+        pendingChanges.clear();
+    }
+
+    /**
+     * The changes made by one committed action.
+     */
+    private static class Entry {
+        private final List<AddressBookChange> changes;
+        private final long size;
+
+        Entry(List<AddressBookChange> changes) {
+            this.changes = new ArrayList<>(changes);
+            this.size = this.changes.stream().mapToLong(AddressBookChange::estimatedSize).sum();
+        }
+
+        void undo(AddressBook addressBook) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).undo(addressBook);
+            }
+        }
+
+        void redo(AddressBook addressBook) {
+            for (AddressBookChange change : changes) {
+                change.redo(addressBook);
+            }
+        }
+    }
+}
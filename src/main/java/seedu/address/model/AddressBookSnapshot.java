@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable copy of an {@code AddressBook} at one point in time.
+ * Taking it is O(1), as it shares the immutable snapshot of the person list. The observable person list is only
+ * built when first asked for, so the snapshot can be taken on the UI thread and read on another thread.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+    private final long version;
+    private ObservableList<Person> personList;
+
+    AddressBookSnapshot(PersistentList<Person> persons, long version) {
+        requireNonNull(persons);
+        this.persons = persons;
+        this.version = version;
+    }
+
+    @Override
+    public synchronized ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons.toList()));
+        }
+        return personList;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("version", version)
+                .toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -78,6 +79,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an unmodifiable copy of the current AddressBook, taken in O(1).
+     * Later changes to the AddressBook do not affect it, so it can be read on another thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -89,6 +96,12 @@ public interface Model {
      */
     void deletePerson(Person target);
 
+    /**
+     * Deletes all the given persons at once, notifying observers of the person list with a single change.
+     * Every person in {@code targets} must exist in the address book.
+     */
+    void deletePersons(List<Person> targets);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -4,14 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ParallelFilteredList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
 /**
@@ -22,12 +27,10 @@ public class ModelManager implements Model {
 
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final java.util.List<AddressBook> addressBookHistory = new java.util.ArrayList<>();
-    private int historyPointer = -1;
-
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final ParallelFilteredList<Person> filteredPersons;
+    private final AddressBookHistory addressBookHistory = new AddressBookHistory();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -39,12 +42,13 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        commitAddressBook();
+        filteredPersons = new ParallelFilteredList<>(this.addressBook.getPersonList(),
+                this.userPrefs.getParallelFilterThreshold());
+        this.addressBook.buildSearchIndex();
     }
+
     /**
      * Initializes a ModelManager with default address book and user preferences.
-     * Also commits the initial state to the undo/redo history.
      */
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
@@ -56,6 +60,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        filteredPersons.setParallelThreshold(this.userPrefs.getParallelFilterThreshold());
     }
 
     @Override
@@ -86,56 +91,40 @@ public class ModelManager implements Model {
     }
 
     //=========== AddressBook ================================================================================
-    private void pushCurrentStateToHistory() {
-        while (addressBookHistory.size() > historyPointer + 1) {
-            addressBookHistory.remove(addressBookHistory.size() - 1);
-        }
-        addressBookHistory.add(new AddressBook(this.addressBook));
-        historyPointer = addressBookHistory.size() - 1;
-    }
 
     @Override
     public void commitAddressBook() {
-        pushCurrentStateToHistory();
-        logger.fine("Committed address book state. historySize=" + addressBookHistory.size()
-                + " pointer=" + historyPointer);
+        addressBookHistory.commit(userPrefs.getUndoHistoryByteBudget());
+        logger.fine("Committed address book state. historySize=" + addressBookHistory.getTotalSize() + " bytes");
     }
 
     @Override
     public boolean canUndoAddressBook() {
-        return historyPointer > 0;
+        return addressBookHistory.canUndo();
     }
 
     @Override
     public void undoAddressBook() {
-        if (!canUndoAddressBook()) {
-            throw new IllegalStateException("No previous state to undo to");
-        }
-        historyPointer--;
-        AddressBook previous = addressBookHistory.get(historyPointer);
-        this.addressBook.resetData(previous);
+        addressBookHistory.undo(addressBook);
         this.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public boolean canRedoAddressBook() {
-        return historyPointer < addressBookHistory.size() - 1;
+        return addressBookHistory.canRedo();
     }
 
     @Override
     public void redoAddressBook() {
-        if (!canRedoAddressBook()) {
-            throw new IllegalStateException("No next state to redo to");
-        }
-        historyPointer++;
-        AddressBook next = addressBookHistory.get(historyPointer);
-        this.addressBook.resetData(next);
+        addressBookHistory.redo(addressBook);
         this.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        PersistentList<Person> before = this.addressBook.snapshot();
         this.addressBook.resetData(addressBook);
+        addressBookHistory.record(AddressBookChange.replaced(before, this.addressBook.snapshot()));
     }
 
     @Override
@@ -143,6 +132,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return new AddressBookSnapshot(addressBook.snapshot(), addressBook.getVersion());
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -151,12 +145,27 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
+        int index = addressBook.indexOf(target);
         addressBook.removePerson(target);
+        addressBookHistory.record(AddressBookChange.removed(index, target));
+    }
+
+    @Override
+    public void deletePersons(List<Person> targets) {
+        requireNonNull(targets);
+        TreeMap<Integer, Person> removed = new TreeMap<>();
+        for (Person target : targets) {
+            removed.put(addressBook.indexOf(target), target);
+        }
+        addressBook.removePersons(targets);
+        int[] indices = removed.keySet().stream().mapToInt(Integer::intValue).toArray();
+        addressBookHistory.record(AddressBookChange.removedAll(indices, new ArrayList<>(removed.values())));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        addressBookHistory.record(AddressBookChange.added(addressBook.getPersonList().size() - 1, person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -165,12 +174,15 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        addressBookHistory.record(AddressBookChange.edited(target, editedPerson));
     }
 
     @Override
     public void sortPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
+        PersistentList<Person> before = addressBook.snapshot();
         addressBook.sortPersons(comparator);
+        addressBookHistory.record(AddressBookChange.replaced(before, addressBook.snapshot()));
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -183,9 +195,22 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * A keyword search, as made by {@code FindCommand}, is narrowed with the trigram index of the address book so
+     * that only persons that may contain a keyword are tested. The index is built in the background from when the
+     * model is created, and searches made before it is ready test every person. Address books of at least the
+     * parallel filter threshold of the user prefs are tested on several threads, so predicates must be thread-safe.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof NameContainsKeywordsPredicate keywordsPredicate) {
+            filteredPersons.setPredicate(addressBook.getBuiltSearchIndex()
+                    .map(searchIndex -> searchIndex.narrow(keywordsPredicate))
+                    .orElse(keywordsPredicate));
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the modification version of the address book, which changes whenever its contents change.
+     * Callers can compare it with a version seen earlier to tell whether the address book was modified since.
+     */
+    long getVersion();
+
 }
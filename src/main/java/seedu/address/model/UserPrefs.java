@@ -1,20 +1,28 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageSettings;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_UNDO_HISTORY_BYTE_BUDGET = 32L * 1024 * 1024;
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 50_000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private long undoHistoryByteBudget = DEFAULT_UNDO_HISTORY_BYTE_BUDGET;
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
+    private StorageSettings storageSettings = new StorageSettings();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryByteBudget(newUserPrefs.getUndoHistoryByteBudget());
+        setParallelFilterThreshold(newUserPrefs.getParallelFilterThreshold());
+        setStorageSettings(newUserPrefs.getStorageSettings());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +67,39 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getUndoHistoryByteBudget() {
+        return undoHistoryByteBudget;
+    }
+
+    /**
+     * Sets the approximate number of bytes the undo/redo history may occupy before its oldest entries are dropped.
+     */
+    public void setUndoHistoryByteBudget(long undoHistoryByteBudget) {
+        checkArgument(undoHistoryByteBudget >= 0, "Undo history byte budget must not be negative");
+        this.undoHistoryByteBudget = undoHistoryByteBudget;
+    }
+
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    /**
+     * Sets the fewest persons for which the filtered person list tests its predicate on several threads.
+     */
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        checkArgument(parallelFilterThreshold > 0, "Parallel filter threshold must be positive");
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    public StorageSettings getStorageSettings() {
+        return storageSettings;
+    }
+
+    public void setStorageSettings(StorageSettings storageSettings) {
+        requireNonNull(storageSettings);
+        this.storageSettings = storageSettings;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +113,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && undoHistoryByteBudget == otherUserPrefs.undoHistoryByteBudget
+                && parallelFilterThreshold == otherUserPrefs.parallelFilterThreshold
+                && storageSettings.equals(otherUserPrefs.storageSettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryByteBudget, parallelFilterThreshold,
+                storageSettings);
     }
 
     @Override
@@ -82,6 +130,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history byte budget : " + undoHistoryByteBudget);
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
+        sb.append("\nStorage Settings : " + storageSettings);
         return sb.toString();
     }
 
@@ -1,14 +1,14 @@
 package seedu.address.model.person;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.SearchUtil;
+import seedu.address.commons.util.AhoCorasickMatcher;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s fields contain any of the keywords given.
@@ -22,8 +22,17 @@ import seedu.address.model.tag.Tag;
  */
 public class NameContainsKeywordsPredicate implements java.util.function.Predicate<Person> {
 
+    /** The fewest keywords for which scanning each field once with an automaton beats searching for each keyword. */
+    static final int MIN_AUTOMATON_KEYWORD_COUNT = 5;
+
     private final List<String> keywords;
 
+    // The keywords searched for, compiled once from the keywords given
+    private final String[] lowerCaseKeywords;
+
+    // Matches all the keywords in one pass over a field, or null when there are too few keywords to need it
+    private final AhoCorasickMatcher matcher;
+
     /**
      * Constructs a predicate from the given list of keywords.
      *
@@ -31,89 +40,67 @@ public class NameContainsKeywordsPredicate implements java.util.function.Predica
      */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = Objects.requireNonNull(keywords);
+        this.lowerCaseKeywords = compile(keywords);
+        this.matcher = lowerCaseKeywords.length >= MIN_AUTOMATON_KEYWORD_COUNT
+                ? new AhoCorasickMatcher(Arrays.asList(lowerCaseKeywords))
+                : null;
     }
 
-    @Override
-    public boolean test(Person person) {
-        // If no keywords provided, treat as no match.
-        if (keywords == null || keywords.isEmpty()) {
-            return false;
-        }
-
-        // For each keyword, see if it matches any of the person's searchable fields.
-        return keywords.stream()
+    /**
+     * Returns the keywords that decide a match: {@code keywords} trimmed and lower-cased, leaving out blank ones and
+     * any keyword that contains another, as a field containing it also contains the other. The shortest keywords,
+     * which match most often, come first.
+     */
+    private static String[] compile(List<String> keywords) {
+        List<String> candidates = keywords.stream()
                 .filter(Objects::nonNull)
                 .map(String::trim)
                 .filter(s -> !s.isEmpty())
-                .anyMatch(keyword -> matchesAnyField(person, keyword));
+                .map(String::toLowerCase)
+                .distinct()
+                .sorted(Comparator.comparingInt(String::length))
+                .collect(Collectors.toList());
+        List<String> compiled = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (compiled.stream().noneMatch(candidate::contains)) {
+                compiled.add(candidate);
+            }
+        }
+        return compiled.toArray(String[]::new);
     }
 
     /**
-     * Returns true if the keyword matches any supported field of the person.
-     *
-     * @param person the person to check; must be non-null.
-     * @param keyword the keyword to search for; must be non-null, non-empty.
+     * Returns the keywords searched for, trimmed and lower-cased, leaving out blank and redundant ones.
+     * The returned array must not be modified.
      */
-    private boolean matchesAnyField(Person person, String keyword) {
-        Objects.requireNonNull(person);
-        Objects.requireNonNull(keyword);
-
-        // Name
-        if (SearchUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword)) {
-            return true;
-        }
-
-        // Phone
-        if (SearchUtil.containsSubstringIgnoreCase(person.getPhone().value, keyword)) {
-            return true;
-        }
-
-        // Email
-        if (person.getEmail() != null && SearchUtil.containsSubstringIgnoreCase(person.getEmail().value, keyword)) {
-            return true;
-        }
-
-        // Address
-        if (person.getAddress() != null && SearchUtil.containsSubstringIgnoreCase(person.getAddress().value, keyword)) {
-            return true;
-        }
+    String[] getLowerCaseKeywords() {
+        return lowerCaseKeywords;
+    }
 
-        // Priority
-        if (person.getPriority() != null) {
-            String priorityString = person.getPriority().toString();
-            if (SearchUtil.containsSubstringIgnoreCase(priorityString, keyword)) {
-                return true;
+    /**
+     * Returns true if any keyword is contained in any searchable field of {@code person}, ignoring case.
+     * The keywords are matched against the cached {@link Person#getSearchKeys()}, so no strings are created.
+     * With many keywords, each field is scanned once for all of them by an {@link AhoCorasickMatcher}.
+     */
+    @Override
+    public boolean test(Person person) {
+        Objects.requireNonNull(person);
+        List<String> searchKeys = person.getSearchKeys();
+        if (matcher != null) {
+            for (int i = 0; i < searchKeys.size(); i++) {
+                if (matcher.containsAny(searchKeys.get(i))) {
+                    return true;
+                }
             }
+            return false;
         }
-
-        // Tags (any tag containing the substring)
-        Set<Tag> tags = person.getTags();
-        if (tags != null && tags.stream()
-                .map(tag -> tag.tagName)
-                .anyMatch(tagName -> SearchUtil.containsSubstringIgnoreCase(tagName, keyword))) {
-            return true;
-        }
-
-        // Company implementation pull request not yet approved
-        try {
-            Method getCompanyMethod = person.getClass().getMethod("getCompany");
-            Object companyObj = getCompanyMethod.invoke(person);
-            if (companyObj != null) {
-                String companyString = null;
-                try {
-                    Method valueMethod = companyObj.getClass().getMethod("toString");
-                    companyString = (String) valueMethod.invoke(companyObj);
-                } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
-                    System.out.println("");
-                }
-                if (companyString != null && SearchUtil.containsSubstringIgnoreCase(companyString, keyword)) {
+        for (String keyword : lowerCaseKeywords) {
+            for (int i = 0; i < searchKeys.size(); i++) {
+                if (searchKeys.get(i).contains(keyword)) {
                     return true;
                 }
             }
-        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ignored) {
-            System.out.println("");
         }
-
         return false;
     }
 
@@ -2,8 +2,10 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -28,6 +30,12 @@ public class Person {
     private final Priority priority;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Derived from the identity fields on first use
+    private PersonIdentity identity;
+
+    // Derived from the searchable fields on first use
+    private List<String> searchKeys;
+
     /**
      * Every field must be present and not null except email, address, company, note, and priority.
      */
@@ -94,6 +102,49 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the identity of this person, which is equal to that of another person
+     * if and only if {@link #isSamePerson(Person)} holds between them.
+     */
+    public PersonIdentity getIdentity() {
+        if (identity == null) {
+            identity = new PersonIdentity(name, phone);
+        }
+        return identity;
+    }
+
+    /**
+     * Returns the lower-cased text of each field that {@code find} searches: the name, phone, email, address,
+     * priority, each tag and the company, leaving out absent fields. The texts are computed on first use and kept,
+     * so searches need not lower-case the fields again.
+     */
+    public List<String> getSearchKeys() {
+        if (searchKeys == null) {
+            List<String> texts = new ArrayList<>();
+            texts.add(name.fullName);
+            texts.add(phone.value);
+            if (email != null) {
+                texts.add(email.value);
+            }
+            if (address != null) {
+                texts.add(address.value);
+            }
+            if (priority != null) {
+                texts.add(priority.toString());
+            }
+            for (Tag tag : tags) {
+                texts.add(tag.tagName);
+            }
+            if (company != null) {
+                texts.add(company.value);
+            }
+            texts.replaceAll(String::toLowerCase);
+            // An immutable list can be shared with other threads without synchronization
+            searchKeys = List.copyOf(texts);
+        }
+        return searchKeys;
+    }
+
     /**
      * Returns true if both persons have the same name and phone number.
      * This defines a weaker notion of equality between two persons.
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The identity of a {@code Person}, made up of the fields compared by {@link Person#isSamePerson(Person)}.
+ * Two persons have equal identities if and only if they are the same person, so an identity can be used as a
+ * hash key to detect duplicates without comparing against every other person.
+ * Guarantees: immutable.
+ */
+public final class PersonIdentity {
+
+    private final String foldedName;
+    private final String phone;
+    private final int hashCode;
+
+    /**
+     * Constructs the identity of a person with the given {@code name} and {@code phone}.
+     */
+    public PersonIdentity(Name name, Phone phone) {
+        requireAllNonNull(name, phone);
+        this.foldedName = foldCase(name.fullName);
+        this.phone = phone.value;
+        this.hashCode = 31 * foldedName.hashCode() + this.phone.hashCode();
+    }
+
+    /**
+     * Maps every character of {@code value} the way {@link String#equalsIgnoreCase(String)} compares it,
+     * so that two names are equal ignoring case exactly when their folded forms are equal.
+     */
+    private static String foldCase(String value) {
+        StringBuilder folded = new StringBuilder(value.length());
+        value.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdentity)) {
+            return false;
+        }
+
+        PersonIdentity otherIdentity = (PersonIdentity) other;
+        return hashCode == otherIdentity.hashCode
+                && foldedName.equals(otherIdentity.foldedName)
+                && phone.equals(otherIdentity.phone);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", foldedName)
+                .add("phone", phone)
+                .toString();
+    }
+}
@@ -0,0 +1,289 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An inverted index from the trigrams (runs of three characters) of the lower-cased searchable fields of persons to
+ * the persons whose fields contain them. A field contains a keyword of at least three characters only if it contains
+ * every trigram of the keyword, so intersecting the persons of those trigrams gives a small set of candidates for a
+ * substring search, which are then checked exactly.
+ *
+ * Every person added is given the next id, so the ids in each trigram's postings ascend and are stored as
+ * variable-length deltas. A removed person leaves its id unused until removed persons outnumber the others, when
+ * the index is rebuilt with fresh ids and a new epoch.
+ *
+ * Persons are told apart by reference rather than by {@code Person#equals}. As persons are immutable, the fields
+ * indexed for a person never go stale.
+ */
+public class TrigramIndex {
+
+    /** The length of the runs of characters indexed. */
+    public static final int GRAM_LENGTH = 3;
+
+    private static final int MIN_REBUILD_REMOVED_COUNT = 1024;
+
+    /** Candidates are not narrowed down when more than one in this many persons of the index may match. */
+    private static final int MAX_CANDIDATE_SHARE = 4;
+
+    private final Map<Person, Integer> ids = new IdentityHashMap<>();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private Person[] personsById = new Person[16];
+    private int nextId;
+    private int epoch;
+
+    /**
+     * Creates an index of {@code persons}.
+     */
+    public TrigramIndex(List<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code person} to the index. A person already in the index is left as it is.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (ids.containsKey(person)) {
+            return;
+        }
+        int id = nextId++;
+        if (id == personsById.length) {
+            personsById = Arrays.copyOf(personsById, id * 2);
+        }
+        personsById[id] = person;
+        ids.put(person, id);
+        for (long trigram : getTrigrams(person)) {
+            postings.computeIfAbsent(trigram, unused -> new Postings()).add(id);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index, if it is in the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Integer id = ids.remove(person);
+        if (id == null) {
+            return;
+        }
+        personsById[id] = null;
+        int removedCount = nextId - ids.size();
+        if (removedCount >= MIN_REBUILD_REMOVED_COUNT && removedCount > ids.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Removes the persons of {@code removed} and adds the persons of {@code added}, leaving persons in both where
+     * they are, as when the whole person list is replaced with one that shares most of its persons.
+     */
+    public void replace(List<? extends Person> removed, List<? extends Person> added) {
+        Set<Person> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(added);
+        for (Person person : removed) {
+            if (!kept.contains(person)) {
+                remove(person);
+            }
+        }
+        added.forEach(this::add);
+    }
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Returns a predicate that accepts the same persons of the indexed list as {@code predicate}, but only tests
+     * the persons that may contain one of its keywords. The index must be told of every change to the list before
+     * the predicate tests the persons changed. Persons added to the index after this call are tested in full.
+     *
+     * If a keyword is too short to have a trigram, or so many persons may match that testing them all is as quick,
+     * {@code predicate} is returned as it is.
+     */
+    public Predicate<Person> narrow(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        BitSet candidateIds = new BitSet();
+        for (String lowerCaseKeyword : predicate.getLowerCaseKeywords()) {
+            if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+                return predicate;
+            }
+            for (int id : findCandidates(lowerCaseKeyword)) {
+                candidateIds.set(id);
+            }
+        }
+        if (candidateIds.cardinality() > ids.size() / MAX_CANDIDATE_SHARE) {
+            return predicate;
+        }
+
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidateIds.stream().filter(id -> personsById[id] != null).forEach(id -> candidates.add(personsById[id]));
+        int searchedEpoch = epoch;
+        int searchedIdLimit = nextId;
+        return person -> {
+            if (candidates.contains(person)) {
+                return predicate.test(person);
+            }
+            if (epoch == searchedEpoch && nextId == searchedIdLimit) {
+                // No person was added since the search, so the person was among those searched
+                return false;
+            }
+            Integer id = epoch == searchedEpoch ? ids.get(person) : null;
+            return (id == null || id >= searchedIdLimit) && predicate.test(person);
+        };
+    }
+
+    /**
+     * Returns the ids of the persons that have every trigram of {@code lowerCaseKeyword}, in ascending order.
+     */
+    private int[] findCandidates(String lowerCaseKeyword) {
+        List<Postings> keywordPostings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseKeyword.length(); i++) {
+            Postings trigramPostings = postings.get(toTrigram(lowerCaseKeyword, i));
+            if (trigramPostings == null) {
+                return new int[0];
+            }
+            if (!keywordPostings.contains(trigramPostings)) {
+                keywordPostings.add(trigramPostings);
+            }
+        }
+        keywordPostings.sort((first, second) -> Integer.compare(first.count, second.count));
+
+        int[] candidates = keywordPostings.get(0).toArray();
+        int candidateCount = candidates.length;
+        for (int i = 1; i < keywordPostings.size() && candidateCount > 0; i++) {
+            candidateCount = keywordPostings.get(i).retainAll(candidates, candidateCount);
+        }
+        return Arrays.copyOf(candidates, candidateCount);
+    }
+
+    private void rebuild() {
+        Person[] persons = personsById;
+        int personCount = nextId;
+        personsById = new Person[Math.max(16, ids.size())];
+        ids.clear();
+        postings.clear();
+        nextId = 0;
+        epoch++;
+        for (int i = 0; i < personCount; i++) {
+            if (persons[i] != null) {
+                add(persons[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of the {@link Person#getSearchKeys() search keys} of {@code person}.
+     */
+    private static long[] getTrigrams(Person person) {
+        int trigramCount = 0;
+        long[] trigrams = new long[64];
+        for (String lowerCaseText : person.getSearchKeys()) {
+            for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+                if (trigramCount == trigrams.length) {
+                    trigrams = Arrays.copyOf(trigrams, trigramCount * 2);
+                }
+                trigrams[trigramCount++] = toTrigram(lowerCaseText, i);
+            }
+        }
+        Arrays.sort(trigrams, 0, trigramCount);
+        int distinctCount = 0;
+        for (int i = 0; i < trigramCount; i++) {
+            if (distinctCount == 0 || trigrams[distinctCount - 1] != trigrams[i]) {
+                trigrams[distinctCount++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinctCount);
+    }
+
+    private static long toTrigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    /**
+     * The ascending ids of the persons that have a trigram, stored as variable-length deltas.
+     */
+    private static class Postings {
+        private byte[] bytes = new byte[4];
+        private int length;
+        private int count;
+        private int lastId = -1;
+
+        void add(int id) {
+            if (length + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+            }
+            int delta = id - lastId;
+            while ((delta & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            bytes[length++] = (byte) delta;
+            lastId = id;
+            count++;
+        }
+
+        int[] toArray() {
+            int[] result = new int[count];
+            int id = -1;
+            int position = 0;
+            for (int i = 0; i < count; i++) {
+                int delta = 0;
+                int shift = 0;
+                byte current;
+                do {
+                    current = bytes[position++];
+                    delta |= (current & 0x7F) << shift;
+                    shift += 7;
+                } while (current < 0);
+                id += delta;
+                result[i] = id;
+            }
+            return result;
+        }
+
+        /**
+         * Keeps only the first {@code candidateCount} ascending ids of {@code candidates} that are also in these
+         * postings, moving them to the front, and returns how many are kept.
+         */
+        int retainAll(int[] candidates, int candidateCount) {
+            int keptCount = 0;
+            int candidateIndex = 0;
+            int id = -1;
+            int position = 0;
+            for (int i = 0; i < count && candidateIndex < candidateCount; i++) {
+                int delta = 0;
+                int shift = 0;
+                byte current;
+                do {
+                    current = bytes[position++];
+                    delta |= (current & 0x7F) << shift;
+                    shift += 7;
+                } while (current < 0);
+                id += delta;
+                while (candidateIndex < candidateCount && candidates[candidateIndex] < id) {
+                    candidateIndex++;
+                }
+                if (candidateIndex < candidateCount && candidates[candidateIndex] == id) {
+                    candidates[keptCount++] = id;
+                    candidateIndex++;
+                }
+            }
+            return keptCount;
+        }
+    }
+}
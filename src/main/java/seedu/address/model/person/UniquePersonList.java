@@ -3,12 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.CompactingObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -21,20 +27,36 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The position of every person in the list is kept in a hash map keyed by the person's identity, so checking for
+ * a duplicate and locating the person to edit or remove take O(1) instead of a scan with {@code Person#equals}.
+ * Inserting or removing a person at an index leaves the positions of the persons after it stale; they are
+ * renumbered in one pass when one of them is next looked up. A lookup after each such change is therefore still
+ * O(n), but a run of insertions renumbers only once. Removing many persons should go through
+ * {@link #removeAll(Collection)}, and putting them back, as when undoing a bulk delete, through
+ * {@link #addAll(int[], List)}; both change the list in one pass and renumber once.
+ *
+ * Alongside the observable list, a {@code PersistentList} copy of the contents is kept in step with every
+ * operation. It lets callers take a snapshot of the list in O(1) and restore it later, with successive
+ * snapshots sharing most of their structure.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final CompactingObservableList<Person> internalList = new CompactingObservableList<>();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<PersonIdentity, Integer> positions = new HashMap<>();
+    // Positions from this index onwards may be out of date; the size of the list if none are
+    private int stalePositionsFrom;
+    private PersistentList<Person> persistentList = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positions.containsKey(toCheck.getIdentity());
     }
 
     /**
@@ -46,7 +68,71 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd.getIdentity(), internalList.size());
         internalList.add(toAdd);
+        if (stalePositionsFrom == internalList.size() - 1) {
+            stalePositionsFrom++;
+        }
+        persistentList = persistentList.add(toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        positions.put(toAdd.getIdentity(), index);
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
+        persistentList = persistentList.add(index, toAdd);
+    }
+
+    /**
+     * Inserts {@code toAdd} into the list in a single pass, so that each person ends up at the matching index of
+     * {@code indices}, which must be in increasing order. None of the persons may already exist in the list.
+     * Listeners are notified of all the insertions in one change.
+     */
+    public void addAll(int[] indices, List<Person> toAdd) {
+        requireNonNull(indices);
+        requireAllNonNull(toAdd);
+        Map<PersonIdentity, Integer> addedPositions = new HashMap<>();
+        for (int i = 0; i < toAdd.size() && i < indices.length; i++) {
+            Person person = toAdd.get(i);
+            if (contains(person) || addedPositions.put(person.getIdentity(), indices[i]) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        internalList.insertAt(indices, toAdd);
+        if (indices.length == 0) {
+            return;
+        }
+
+        positions.putAll(addedPositions);
+        stalePositionsFrom = Math.min(stalePositionsFrom, indices[0]);
+        // Inserting from the front puts each person at its final index, and leaves the rest of the tree shared
+        for (int i = 0; i < indices.length; i++) {
+            persistentList = persistentList.add(indices[i], toAdd.get(i));
+        }
+    }
+
+    /**
+     * Returns the position of the equivalent person in the list, or -1 if there is none.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer index = positions.get(person.getIdentity());
+        if (index != null && index >= stalePositionsFrom) {
+            updatePositionsFrom(stalePositionsFrom);
+            index = positions.get(person.getIdentity());
+        }
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
     }
 
     /**
@@ -57,7 +143,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -67,6 +153,9 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        positions.remove(target.getIdentity());
+        positions.put(editedPerson.getIdentity(), index);
+        persistentList = persistentList.set(index, editedPerson);
     }
 
     /**
@@ -75,14 +164,56 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        positions.remove(toRemove.getIdentity());
+        stalePositionsFrom = Math.min(stalePositionsFrom, index);
+        persistentList = persistentList.remove(index);
     }
 
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list in a single pass.
+     * Every person must exist in the list. Listeners are notified of all the removals in one change.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        BitSet removedPositions = new BitSet(internalList.size());
+        for (Person person : toRemove) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            removedPositions.set(index);
+        }
+        if (removedPositions.isEmpty()) {
+            return;
+        }
+
+        int size = internalList.size();
+        internalList.removeAt(removedPositions);
+        for (Person person : toRemove) {
+            positions.remove(person.getIdentity());
+        }
+        stalePositionsFrom = Math.min(stalePositionsFrom, removedPositions.nextSetBit(0));
+        // Removing from the end keeps the earlier positions valid, and leaves the rest of the tree shared
+        for (int i = removedPositions.previousSetBit(size - 1); i >= 0; i = removedPositions.previousSetBit(i - 1)) {
+            persistentList = persistentList.remove(i);
+        }
+    }
+
+    /**
+     * Replaces the contents of this list with those of {@code replacement}.
+     * {@code replacement} is already known to be free of duplicates, so no uniqueness check is done.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positions = new HashMap<>(replacement.positions);
+        stalePositionsFrom = replacement.stalePositionsFrom;
+        persistentList = replacement.persistentList;
     }
 
     /**
@@ -91,11 +222,43 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<PersonIdentity, Integer> newPositions = positionsOf(persons);
 
         internalList.setAll(persons);
+        positions = newPositions;
+        stalePositionsFrom = persons.size();
+        persistentList = PersistentList.of(persons);
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list in O(1).
+     * Later changes to this list do not affect the snapshot.
+     */
+    public PersistentList<Person> snapshot() {
+        return persistentList;
+    }
+
+    /**
+     * Replaces the contents of this list with a {@code snapshot} previously taken from a {@code UniquePersonList}.
+     * The snapshot is trusted to be free of duplicates, so no uniqueness check is done.
+     */
+    public void restore(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        internalList.setAll(snapshot.toList());
+        positions = positionsOf(internalList);
+        stalePositionsFrom = internalList.size();
+        persistentList = snapshot;
+    }
+
+    /**
+     * Records the positions of the persons from {@code index} to the end of the list,
+     * after persons were inserted or removed at {@code index}.
+     */
+    private void updatePositionsFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getIdentity(), i);
+        }
+        stalePositionsFrom = internalList.size();
     }
 
     /**
@@ -107,7 +270,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -136,17 +299,19 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of each person in {@code persons} keyed by identity, checking that they are unique
+     * in a single pass.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<PersonIdentity, Integer> positionsOf(List<Person> persons) {
+        Map<PersonIdentity, Integer> positions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (positions.put(persons.get(i).getIdentity(), i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return positions;
     }
 
     /**
@@ -154,6 +319,8 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void sort(Comparator<Person> comparator) {
         requireNonNull(comparator);
-        FXCollections.sort(internalList, comparator);
+        internalList.sort(comparator);
+        updatePositionsFrom(0);
+        persistentList = PersistentList.of(internalList);
     }
 }
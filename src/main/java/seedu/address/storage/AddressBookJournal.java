@@ -0,0 +1,304 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * An append-only log of the changes made to an address book since its data file was last written.
+ *
+ * While a journal is in use, saving appends the changes made since the previous save to the journal file, one
+ * JSON record per line, so the cost of a save depends on the size of the changes rather than of the address book.
+ * Once the journal grows past its compaction threshold, the next save rewrites the data file and empties the
+ * journal. Loading reads the data file and replays the journal on top of it.
+ *
+ * The first line of the journal holds the length and checksum of the data file the records apply to. A journal
+ * left over from an interrupted compaction therefore no longer matches the new data file, and is ignored.
+ */
+public class AddressBookJournal {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    /**
+     * The most persons a single change may add and still be journalled. Larger changes, such as the whole list
+     * being replaced by an undo, are saved by rewriting the data file instead.
+     */
+    static final int MAX_JOURNALLED_ADDED_SIZE = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final DurabilityPolicy durabilityPolicy;
+
+    /** Changes made to the tracked address book that are not yet in the journal, oldest first. */
+    private final Deque<PendingRecord> pendingRecords = new ArrayDeque<>();
+
+    /** True if the journal file holds exactly the changes between the data file and the last saved state. */
+    private boolean isInStepWithDataFile;
+    private long size;
+
+    /**
+     * Creates a journal kept at {@code filePath} that is compacted once it is larger than
+     * {@code compactionThreshold} bytes.
+     */
+    public AddressBookJournal(Path filePath, long compactionThreshold) {
+        this(filePath, compactionThreshold, StorageSettings.DEFAULT_DURABILITY_POLICY);
+    }
+
+    /**
+     * Creates a journal kept at {@code filePath} that is compacted once it is larger than
+     * {@code compactionThreshold} bytes, and whose writes are forced to the device as required by
+     * {@code durabilityPolicy}.
+     */
+    public AddressBookJournal(Path filePath, long compactionThreshold, DurabilityPolicy durabilityPolicy) {
+        requireNonNull(filePath);
+        requireNonNull(durabilityPolicy);
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code dataFilePath}.
+     */
+    public static Path getJournalFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, which is expected to hold the data last loaded
+     * through {@link #replay(Optional, Path)}. Changes are picked up by the next {@link #save}.
+     */
+    public void track(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            long version = addressBook.getVersion();
+            synchronized (pendingRecords) {
+                while (change.next()) {
+                    if (change.wasPermutated() || change.wasUpdated()
+                            || change.getAddedSize() > MAX_JOURNALLED_ADDED_SIZE) {
+                        // Not worth encoding, as rewriting the data file costs about the same
+                        pendingRecords.add(new PendingRecord(version, null));
+                        continue;
+                    }
+                    if (change.wasRemoved()) {
+                        pendingRecords.add(new PendingRecord(version,
+                                JsonAdaptedJournalRecord.removed(change.getFrom(), change.getRemovedSize())));
+                    }
+                    if (change.wasAdded()) {
+                        pendingRecords.add(new PendingRecord(version,
+                                JsonAdaptedJournalRecord.added(change.getFrom(), change.getAddedSubList())));
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the address book in {@code dataFile}, the content of the data file at {@code dataFilePath}, with the
+     * records of the journal applied. Records are skipped if the journal does not belong to the data file, and
+     * replay stops at the first record that cannot be read, such as one cut short by a crash; the next save then
+     * rewrites the data file.
+     *
+     * @throws DataLoadingException if a record holds invalid data or the result contains duplicate persons.
+     */
+    public Optional<ReadOnlyAddressBook> replay(Optional<ReadOnlyAddressBook> dataFile, Path dataFilePath)
+            throws DataLoadingException {
+        requireNonNull(dataFile);
+        requireNonNull(dataFilePath);
+        isInStepWithDataFile = false;
+        if (!dataFile.isPresent() || !FileUtil.isFileExists(filePath)) {
+            return dataFile;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, UTF_8);
+            if (lines.isEmpty() || !readHeader(lines.get(0)).matches(dataFilePath)) {
+                logger.warning("Journal " + filePath + " does not belong to " + dataFilePath + ", ignoring it.");
+                return dataFile;
+            }
+        } catch (IOException e) {
+            logger.warning("Journal " + filePath + " could not be read, ignoring it: " + e);
+            return dataFile;
+        }
+
+        List<Person> persons = new ArrayList<>(dataFile.get().getPersonList());
+        boolean isComplete = true;
+        for (String line : lines.subList(1, lines.size())) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                logger.warning("Journal " + filePath + " has an unreadable record, ignoring the rest: " + e);
+                isComplete = false;
+                break;
+            }
+            try {
+                record.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+        isInStepWithDataFile = isComplete;
+        size = lines.stream().mapToLong(line -> line.getBytes(UTF_8).length + 1).sum();
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Saves {@code addressBook}, a state of the tracked address book, by appending the changes made up to it.
+     * If the journal is over its compaction threshold or cannot hold the changes, the data file is rewritten
+     * through {@code dataStorage} and the journal emptied instead.
+     */
+    public void save(ReadOnlyAddressBook addressBook, AddressBookStorage dataStorage) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(dataStorage);
+
+        List<PendingRecord> records = takeRecordsUpTo(addressBook.getVersion());
+        boolean isAppendable = isInStepWithDataFile && size < compactionThreshold
+                && records.stream().allMatch(record -> record.record != null);
+        if (!isAppendable) {
+            compact(addressBook, dataStorage);
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (PendingRecord record : records) {
+            lines.append(JsonUtil.toJsonLine(record.record)).append('\n');
+        }
+        String text = lines.toString();
+        try {
+            FileUtil.appendToFile(filePath, text, durabilityPolicy);
+        } catch (IOException e) {
+            // The journal may now end with part of the records, so only a compaction can recover from here
+            isInStepWithDataFile = false;
+            throw e;
+        }
+        size += text.getBytes(UTF_8).length;
+    }
+
+    private List<PendingRecord> takeRecordsUpTo(long version) {
+        List<PendingRecord> records = new ArrayList<>();
+        synchronized (pendingRecords) {
+            while (!pendingRecords.isEmpty() && pendingRecords.peekFirst().version <= version) {
+                records.add(pendingRecords.removeFirst());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Rewrites the data file with {@code addressBook} and starts an empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook, AddressBookStorage dataStorage) throws IOException {
+        isInStepWithDataFile = false;
+        dataStorage.saveAddressBook(addressBook);
+        if (compactionThreshold == 0) {
+            // A journal that is never appended to is not worth keeping
+            Files.deleteIfExists(filePath);
+            return;
+        }
+
+        String header = JsonUtil.toJsonLine(JournalHeader.of(dataStorage.getAddressBookFilePath())) + "\n";
+        FileUtil.writeToFileAtomically(filePath, header, durabilityPolicy);
+        size = header.getBytes(UTF_8).length;
+        isInStepWithDataFile = true;
+    }
+
+    private static JournalHeader readHeader(String line) throws IOException {
+        return JsonUtil.fromJsonString(line, JournalHeader.class);
+    }
+
+    /**
+     * A change waiting to be appended, tagged with the version of the address book right after it.
+     * A null record stands for a change that is only saved by rewriting the data file.
+     */
+    private static class PendingRecord {
+        private final long version;
+        private final JsonAdaptedJournalRecord record;
+
+        PendingRecord(long version, JsonAdaptedJournalRecord record) {
+            this.version = version;
+            this.record = record;
+        }
+    }
+
+    /**
+     * Identifies the content of the data file a journal belongs to.
+     */
+    private static class JournalHeader {
+        private final long dataFileLength;
+        private final long dataFileChecksum;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("dataFileLength") long dataFileLength,
+                @JsonProperty("dataFileChecksum") long dataFileChecksum) {
+            this.dataFileLength = dataFileLength;
+            this.dataFileChecksum = dataFileChecksum;
+        }
+
+        /**
+         * Returns the header for the current content of the data file at {@code dataFilePath}, reading the file as a
+         * stream so that it is never held in memory whole.
+         */
+        static JournalHeader of(Path dataFilePath) throws IOException {
+            try (CheckedInputStream in = new CheckedInputStream(
+                    new BufferedInputStream(Files.newInputStream(dataFilePath)), new CRC32())) {
+                long length = in.transferTo(OutputStream.nullOutputStream());
+                return new JournalHeader(length, in.getChecksum().getValue());
+            }
+        }
+
+        boolean matches(Path dataFilePath) throws IOException {
+            // A data file of another length cannot match, so it is not read at all
+            if (Files.size(dataFilePath) != dataFileLength) {
+                return false;
+            }
+            JournalHeader current = of(dataFilePath);
+            return dataFileLength == current.dataFileLength && dataFileChecksum == current.dataFileChecksum;
+        }
+    }
+}
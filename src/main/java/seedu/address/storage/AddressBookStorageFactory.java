@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Creates the storage for an address book data file, and finds the format a data file is currently kept in.
+ *
+ * Every storage reads data files in any format by checking the format here and handing files in another format
+ * to the storage this factory creates for it, so the order in which the formats are recognised is kept in one
+ * place.
+ */
+public class AddressBookStorageFactory {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookStorageFactory.class);
+
+    private AddressBookStorageFactory() {}
+
+    /**
+     * Returns the storage for the data file at {@code filePath} that saves in the format set in
+     * {@code storageSettings}.
+     */
+    public static AddressBookStorage createStorage(Path filePath, StorageSettings storageSettings) {
+        requireNonNull(filePath);
+        requireNonNull(storageSettings);
+        switch (storageSettings.getDataFileFormat()) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath, storageSettings);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath, storageSettings);
+        case RECORD_FILE:
+            return new RecordFileAddressBookStorage(filePath, storageSettings);
+        default:
+            return new JsonAddressBookStorage(filePath, storageSettings);
+        }
+    }
+
+    /**
+     * Returns the format the address book of the data file at {@code filePath} is kept in, or an empty
+     * {@code Optional} if there is no such address book. Shards and record files are kept only while the data
+     * file itself is missing, and a data file that does not start like a binary file is taken to be JSON.
+     *
+     * @throws DataLoadingException if the data file cannot be read.
+     */
+    public static Optional<DataFileFormat> detectFormat(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (ShardedAddressBookStorage.isSharded(filePath)) {
+            return Optional.of(DataFileFormat.SHARDED);
+        }
+        if (RecordFileAddressBookStorage.isRecordFile(filePath)) {
+            return Optional.of(DataFileFormat.RECORD_FILE);
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(BinaryAddressBookStorage.isBinaryFile(filePath)
+                    ? DataFileFormat.BINARY
+                    : DataFileFormat.JSON);
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the storage that reads the data file at {@code filePath}, kept in {@code format}, with
+     * {@code storageSettings} otherwise.
+     */
+    static AddressBookStorage createReader(Path filePath, DataFileFormat format, StorageSettings storageSettings) {
+        logger.info("Data file " + filePath + " is kept in the " + format + " format, reading it as such.");
+        return createStorage(filePath, storageSettings.withDataFileFormat(format));
+    }
+}
@@ -0,0 +1,402 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and the format version, followed by a header record holding the number
+ * of persons and a dictionary of every distinct tag and company name, and one record per person. Each record is
+ * its length, its content and a CRC32 checksum of the content. Lengths and counts are variable-length integers,
+ * strings are length-prefixed UTF-8, and tags and companies are stored as positions in the dictionary. Lengths and
+ * counts are checked against the length of the file before they are trusted, so a corrupt file fails to load
+ * rather than exhausting memory. Files of the first version, whose person count followed the dictionary record
+ * without a checksum, are still read.
+ *
+ * A person record holds the same fields as {@link JsonAdaptedPerson} and is converted to the model through it,
+ * so both formats hold exactly the same data and are validated in the same way. A data file that is not in
+ * this format is read as JSON, so switching formats converts the data file on its next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version %d.";
+    public static final String MESSAGE_CORRUPT_RECORD = "Record %d of the data file is corrupt.";
+    public static final String MESSAGE_CORRUPT_HEADER = "The header of the data file is corrupt.";
+
+    /** The bytes "ABKB" that start every binary data file. */
+    static final int MAGIC = 0x41424B42;
+    static final int FORMAT_VERSION = 2;
+    static final int FIRST_FORMAT_VERSION = 1;
+
+    /** The fewest bytes a record takes up in the file: a one-byte length and the checksum. */
+    static final int MIN_RECORD_SIZE = 1 + Integer.BYTES;
+
+    private static final int MAX_RECORD_LENGTH = 64 * 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final StorageSettings storageSettings;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, new StorageSettings());
+    }
+
+    /**
+     * Creates a storage for the binary file at {@code filePath} that saves and loads as set in
+     * {@code storageSettings}.
+     */
+    public BinaryAddressBookStorage(Path filePath, StorageSettings storageSettings) {
+        requireNonNull(storageSettings);
+        this.filePath = filePath;
+        this.storageSettings = storageSettings;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary data file.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<DataFileFormat> format = AddressBookStorageFactory.detectFormat(filePath);
+        if (!format.isPresent()) {
+            return Optional.empty();
+        }
+        if (format.get() != DataFileFormat.BINARY) {
+            return AddressBookStorageFactory.createReader(filePath, format.get(), storageSettings)
+                    .readAddressBook(filePath);
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            return Optional.of(readAddressBook(new DataInputStream(in), Files.size(filePath),
+                    storageSettings.isParallelLoadEnabled()));
+        } catch (IOException e) {
+            logger.warning("Error reading from data file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads an address book in the binary format from {@code in}, which holds {@code length} bytes.
+     *
+     * @throws IOException if the content is not in the binary format or fails its checksums.
+     * @throws IllegalValueException if a person holds invalid data or the list contains duplicate persons.
+     */
+    static AddressBook readAddressBook(DataInputStream in, long length, boolean isParallel)
+            throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary data file.");
+        }
+        int version = readFormatVersion(in.readInt());
+
+        DataInputStream headerRecord = readRecord(in, 0, length);
+        int personCount = version == FIRST_FORMAT_VERSION ? 0 : readVarInt(headerRecord);
+        String[] dictionary = readDictionary(headerRecord);
+        if (version == FIRST_FORMAT_VERSION) {
+            personCount = readVarInt(in);
+        }
+        checkPersonCount(personCount, length);
+
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        List<Person> persons = new ArrayList<>();
+        Set<PersonIdentity> identities = new HashSet<>();
+        for (int i = 1; i <= personCount; i++) {
+            JsonAdaptedPerson adaptedPerson = readPerson(readRecord(in, i, length), dictionary, i);
+            if (isParallel) {
+                adaptedPersons.add(adaptedPerson);
+                continue;
+            }
+            Person person = adaptedPerson.toModelType();
+            if (!identities.add(person.getIdentity())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+        if (in.read() != -1) {
+            throw new IOException("Unexpected data after the last record.");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(isParallel
+                ? JsonSerializableAddressBook.toModelPersonsInParallel(adaptedPersons)
+                : persons);
+        return addressBook;
+    }
+
+    /**
+     * Returns {@code version} if it is a format version that can be read.
+     */
+    private static int readFormatVersion(int version) throws IOException {
+        if (version != FORMAT_VERSION && version != FIRST_FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        return version;
+    }
+
+    /**
+     * Reads the dictionary from {@code headerRecord}, checking its size against the bytes left in the record.
+     */
+    private static String[] readDictionary(DataInputStream headerRecord) throws IOException {
+        int size = readVarInt(headerRecord);
+        // Every entry takes at least one byte
+        if (size > headerRecord.available()) {
+            throw new IOException(MESSAGE_CORRUPT_HEADER);
+        }
+        List<String> dictionary = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            dictionary.add(readString(headerRecord));
+        }
+        return dictionary.toArray(new String[0]);
+    }
+
+    /**
+     * Checks that {@code personCount} records fit in a file of {@code length} bytes.
+     */
+    private static void checkPersonCount(int personCount, long length) throws IOException {
+        if (personCount > length / MIN_RECORD_SIZE) {
+            throw new IOException(MESSAGE_CORRUPT_HEADER);
+        }
+    }
+
+    /**
+     * Reads the record numbered {@code index} from {@code in}, a file of {@code fileLength} bytes, and returns its
+     * content once its checksum matches.
+     */
+    private static DataInputStream readRecord(DataInputStream in, int index, long fileLength) throws IOException {
+        int length = readVarInt(in);
+        if (length > MAX_RECORD_LENGTH || length > fileLength) {
+            throw new IOException(String.format(MESSAGE_CORRUPT_RECORD, index));
+        }
+        byte[] content = new byte[length];
+        in.readFully(content);
+        CRC32 checksum = new CRC32();
+        checksum.update(content);
+        if (in.readInt() != (int) checksum.getValue()) {
+            throw new IOException(String.format(MESSAGE_CORRUPT_RECORD, index));
+        }
+        return new DataInputStream(new ByteArrayInputStream(content));
+    }
+
+    private static JsonAdaptedPerson readPerson(DataInput record, String[] dictionary, int index)
+            throws IOException {
+        String name = readString(record);
+        String phone = readString(record);
+        String email = readString(record);
+        String address = readString(record);
+        int companyReference = readVarInt(record);
+        String company = companyReference == 0 ? null : lookUp(dictionary, companyReference - 1, index);
+        int tagCount = readVarInt(record);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(lookUp(dictionary, readVarInt(record), index)));
+        }
+        String note = readString(record);
+        String noteLastEdited = readString(record);
+        String priority = readString(record);
+        return new JsonAdaptedPerson(name, phone, email, address, company, tags, note, noteLastEdited, priority);
+    }
+
+    private static String lookUp(String[] dictionary, int position, int index) throws IOException {
+        if (position >= dictionary.length) {
+            throw new IOException(String.format(MESSAGE_CORRUPT_RECORD, index));
+        }
+        return dictionary[position];
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so a crash during the save leaves the previously saved data intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, out -> writeAddressBook(addressBook, out),
+                storageSettings.getDurabilityPolicy());
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            if (person.getCompany() != null) {
+                dictionary.putIfAbsent(person.getCompany().value, dictionary.size());
+            }
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(FORMAT_VERSION);
+
+        RecordBuffer record = new RecordBuffer();
+        writeVarInt(record.data, persons.size());
+        writeVarInt(record.data, dictionary.size());
+        for (String entry : dictionary.keySet()) {
+            writeString(record.data, entry);
+        }
+        record.writeRecordTo(data);
+
+        for (Person person : persons) {
+            record.reset();
+            writePerson(record.data, new JsonAdaptedPerson(person), dictionary);
+            record.writeRecordTo(data);
+        }
+        data.flush();
+    }
+
+    private static void writePerson(DataOutput record, JsonAdaptedPerson person, Map<String, Integer> dictionary)
+            throws IOException {
+        writeString(record, person.getName());
+        writeString(record, person.getPhone());
+        writeString(record, person.getEmail());
+        writeString(record, person.getAddress());
+        writeVarInt(record, person.getCompany() == null ? 0 : dictionary.get(person.getCompany()) + 1);
+        writeVarInt(record, person.getTags().size());
+        for (JsonAdaptedTag tag : person.getTags()) {
+            writeVarInt(record, dictionary.get(tag.getTagName()));
+        }
+        writeString(record, person.getNote());
+        writeString(record, person.getNoteLastEdited());
+        writeString(record, person.getPriority());
+    }
+
+    /**
+     * Writes a non-negative {@code value} in 7-bit groups, least significant first, so small values take one byte.
+     */
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed length in the data file.");
+    }
+
+    /**
+     * Writes {@code value}, which may be null, as its UTF-8 length plus one followed by its UTF-8 bytes.
+     */
+    static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Collects the content of one record so that its length and checksum can be written before it.
+     */
+    private static class RecordBuffer extends ByteArrayOutputStream {
+        private final DataOutputStream data = new DataOutputStream(this);
+
+        void writeRecordTo(DataOutputStream out) throws IOException {
+            CRC32 checksum = new CRC32();
+            checksum.update(buf, 0, count);
+            writeVarInt(out, count);
+            out.write(buf, 0, count);
+            out.writeInt((int) checksum.getValue());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change recorded in an {@link AddressBookJournal}.
+ * A record either inserts persons at an index of the person list or removes a number of persons from an index.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    static final String OPERATION_ADD = "add";
+    static final String OPERATION_REMOVE = "remove";
+
+    private final String operation;
+    private final int index;
+    private final int count;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") String operation, @JsonProperty("index") int index,
+            @JsonProperty("count") int count, @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        this.operation = operation;
+        this.index = index;
+        this.count = count;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Returns a record of {@code added} being inserted at {@code index}.
+     */
+    static JsonAdaptedJournalRecord added(int index, List<? extends Person> added) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>(added.size());
+        for (Person person : added) {
+            persons.add(new JsonAdaptedPerson(person));
+        }
+        return new JsonAdaptedJournalRecord(OPERATION_ADD, index, persons.size(), persons);
+    }
+
+    /**
+     * Returns a record of {@code count} persons being removed from {@code index}.
+     */
+    static JsonAdaptedJournalRecord removed(int index, int count) {
+        return new JsonAdaptedJournalRecord(OPERATION_REMOVE, index, count, null);
+    }
+
+    /**
+     * Applies this record to {@code persons}.
+     *
+     * @throws IllegalValueException if the record is malformed, does not fit {@code persons}, or holds a person
+     *     that violates the data constraints.
+     */
+    void applyTo(List<Person> persons) throws IllegalValueException {
+        if (OPERATION_ADD.equals(operation)) {
+            if (index < 0 || index > persons.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "index out of range"));
+            }
+            List<Person> added = new ArrayList<>(this.persons.size());
+            for (JsonAdaptedPerson jsonAdaptedPerson : this.persons) {
+                added.add(jsonAdaptedPerson.toModelType());
+            }
+            persons.addAll(index, added);
+        } else if (OPERATION_REMOVE.equals(operation)) {
+            if (index < 0 || count < 0 || index + count > persons.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "index out of range"));
+            }
+            persons.subList(index, index + count).clear();
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "unknown operation " + operation));
+        }
+    }
+}
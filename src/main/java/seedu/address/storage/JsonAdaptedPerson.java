@@ -1,6 +1,9 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
@@ -9,8 +12,15 @@ import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
@@ -25,13 +35,27 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * A person is written and read field by field by {@link Serializer} and {@link Deserializer} rather than by
+ * reflection, as a JSON object with its tags as an array of tag names.
  */
+@JsonSerialize(using = JsonAdaptedPerson.Serializer.class)
+@JsonDeserialize(using = JsonAdaptedPerson.Deserializer.class)
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
     private static final DateTimeFormatter ISO_FORMAT = DateTimeFormatter.ISO_DATE_TIME;
 
+    private static final String NAME_FIELD = "name";
+    private static final String PHONE_FIELD = "phone";
+    private static final String EMAIL_FIELD = "email";
+    private static final String ADDRESS_FIELD = "address";
+    private static final String COMPANY_FIELD = "company";
+    private static final String TAGS_FIELD = "tags";
+    private static final String NOTE_FIELD = "note";
+    private static final String NOTE_LAST_EDITED_FIELD = "noteLastEdited";
+    private static final String PRIORITY_FIELD = "priority";
+
     private final String name;
     private final String phone;
     private final String email;
@@ -45,13 +69,8 @@ class JsonAdaptedPerson {
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
-    @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-                             @JsonProperty("email") String email, @JsonProperty("address") String address,
-                             @JsonProperty("company") String company, @JsonProperty("tags") List<JsonAdaptedTag> tags,
-                             @JsonProperty("note") String note,
-                             @JsonProperty("noteLastEdited") String noteLastEdited,
-                             @JsonProperty("priority") String priority) {
+    public JsonAdaptedPerson(String name, String phone, String email, String address, String company,
+                             List<JsonAdaptedTag> tags, String note, String noteLastEdited, String priority) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -84,6 +103,108 @@ class JsonAdaptedPerson {
         priority = source.getPriority() != null ? source.getPriority().toString() : null;
     }
 
+    String getName() {
+        return name;
+    }
+
+    String getPhone() {
+        return phone;
+    }
+
+    String getEmail() {
+        return email;
+    }
+
+    String getAddress() {
+        return address;
+    }
+
+    String getCompany() {
+        return company;
+    }
+
+    List<JsonAdaptedTag> getTags() {
+        return tags;
+    }
+
+    String getNote() {
+        return note;
+    }
+
+    String getNoteLastEdited() {
+        return noteLastEdited;
+    }
+
+    String getPriority() {
+        return priority;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} as the JSON object that {@code new JsonAdaptedPerson(source)}
+     * serializes to, without creating the adapted person.
+     */
+    public static void write(Person source, JsonGenerator generator) throws IOException {
+        Note note = source.getNote();
+        generator.writeStartObject();
+        generator.writeStringField(NAME_FIELD, source.getName().fullName);
+        generator.writeStringField(PHONE_FIELD, source.getPhone().value);
+        generator.writeStringField(EMAIL_FIELD, source.getEmail() != null ? source.getEmail().value : null);
+        generator.writeStringField(ADDRESS_FIELD, source.getAddress() != null ? source.getAddress().value : null);
+        generator.writeStringField(COMPANY_FIELD, source.getCompany() != null ? source.getCompany().value : null);
+        generator.writeArrayFieldStart(TAGS_FIELD);
+        for (Tag tag : source.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeStringField(NOTE_FIELD, note != null ? note.value : null);
+        generator.writeStringField(NOTE_LAST_EDITED_FIELD, (note != null && note.getLastEdited() != null)
+                ? note.getLastEdited().format(ISO_FORMAT)
+                : null);
+        generator.writeStringField(PRIORITY_FIELD, source.getPriority() != null
+                ? source.getPriority().toString()
+                : null);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the compact layout: fields that are absent and an empty tag list
+     * are left out, and the time the note was last edited is written as epoch milliseconds, reading it as UTC.
+     * The deserializer reads both layouts.
+     */
+    public static void writeCompact(Person source, JsonGenerator generator) throws IOException {
+        Note note = source.getNote();
+        generator.writeStartObject();
+        generator.writeStringField(NAME_FIELD, source.getName().fullName);
+        generator.writeStringField(PHONE_FIELD, source.getPhone().value);
+        if (source.getEmail() != null) {
+            generator.writeStringField(EMAIL_FIELD, source.getEmail().value);
+        }
+        if (source.getAddress() != null) {
+            generator.writeStringField(ADDRESS_FIELD, source.getAddress().value);
+        }
+        if (source.getCompany() != null) {
+            generator.writeStringField(COMPANY_FIELD, source.getCompany().value);
+        }
+        if (!source.getTags().isEmpty()) {
+            generator.writeArrayFieldStart(TAGS_FIELD);
+            for (Tag tag : source.getTags()) {
+                generator.writeString(tag.tagName);
+            }
+            generator.writeEndArray();
+        }
+        if (note != null) {
+            generator.writeStringField(NOTE_FIELD, note.value);
+            if (note.getLastEdited() != null) {
+                generator.writeNumberField(NOTE_LAST_EDITED_FIELD,
+                        note.getLastEdited().toInstant(ZoneOffset.UTC).toEpochMilli());
+            }
+        }
+        if (source.getPriority() != null) {
+            generator.writeStringField(PRIORITY_FIELD, source.getPriority().toString());
+        }
+        generator.writeEndObject();
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -182,4 +303,149 @@ class JsonAdaptedPerson {
                 modelTags, modelNote, modelPriority);
     }
 
+    /**
+     * Writes a {@code JsonAdaptedPerson} in the same layout as {@link #write(Person, JsonGenerator)}.
+     */
+    static class Serializer extends StdSerializer<JsonAdaptedPerson> {
+
+        private static final long serialVersionUID = 1L;
+
+        Serializer() {
+            super(JsonAdaptedPerson.class);
+        }
+
+        @Override
+        public void serialize(JsonAdaptedPerson person, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField(NAME_FIELD, person.name);
+            generator.writeStringField(PHONE_FIELD, person.phone);
+            generator.writeStringField(EMAIL_FIELD, person.email);
+            generator.writeStringField(ADDRESS_FIELD, person.address);
+            generator.writeStringField(COMPANY_FIELD, person.company);
+            generator.writeArrayFieldStart(TAGS_FIELD);
+            for (JsonAdaptedTag tag : person.tags) {
+                generator.writeString(tag.getTagName());
+            }
+            generator.writeEndArray();
+            generator.writeStringField(NOTE_FIELD, person.note);
+            generator.writeStringField(NOTE_LAST_EDITED_FIELD, person.noteLastEdited);
+            generator.writeStringField(PRIORITY_FIELD, person.priority);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads a {@code JsonAdaptedPerson} from a JSON object. Fields may be in any order, missing fields are read
+     * as {@code null} and unknown fields are skipped.
+     */
+    static class Deserializer extends StdDeserializer<JsonAdaptedPerson> {
+
+        private static final long serialVersionUID = 1L;
+
+        Deserializer() {
+            super(JsonAdaptedPerson.class);
+        }
+
+        @Override
+        public JsonAdaptedPerson deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.START_OBJECT) {
+                token = parser.nextToken();
+            } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+                throw context.mappingException(JsonAdaptedPerson.class, token);
+            }
+
+            String name = null;
+            String phone = null;
+            String email = null;
+            String address = null;
+            String company = null;
+            List<JsonAdaptedTag> tags = null;
+            String note = null;
+            String noteLastEdited = null;
+            String priority = null;
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                case NAME_FIELD:
+                    name = readString(parser, context);
+                    break;
+                case PHONE_FIELD:
+                    phone = readString(parser, context);
+                    break;
+                case EMAIL_FIELD:
+                    email = readString(parser, context);
+                    break;
+                case ADDRESS_FIELD:
+                    address = readString(parser, context);
+                    break;
+                case COMPANY_FIELD:
+                    company = readString(parser, context);
+                    break;
+                case TAGS_FIELD:
+                    tags = readTags(parser, context);
+                    break;
+                case NOTE_FIELD:
+                    note = readString(parser, context);
+                    break;
+                case NOTE_LAST_EDITED_FIELD:
+                    noteLastEdited = readTimestamp(parser, context);
+                    break;
+                case PRIORITY_FIELD:
+                    priority = readString(parser, context);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            return new JsonAdaptedPerson(name, phone, email, address, company, tags, note, noteLastEdited,
+                    priority);
+        }
+
+        /**
+         * Reads the field value at the current token of {@code parser} as a string. Numbers and booleans are read
+         * as their text, as Jackson does for a {@code String} field.
+         */
+        private static String readString(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (!token.isScalarValue()) {
+                throw context.mappingException(String.class, token);
+            }
+            return parser.getText();
+        }
+
+        /**
+         * Reads the field value at the current token of {@code parser} as an ISO timestamp. Epoch milliseconds, as
+         * written in the compact layout, are converted to the timestamp they were written from.
+         */
+        private static String readTimestamp(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.getCurrentToken() != JsonToken.VALUE_NUMBER_INT) {
+                return readString(parser, context);
+            }
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneOffset.UTC)
+                    .format(ISO_FORMAT);
+        }
+
+        private static List<JsonAdaptedTag> readTags(JsonParser parser, DeserializationContext context)
+                throws IOException {
+            JsonToken token = parser.getCurrentToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                throw context.mappingException(List.class, token);
+            }
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                tags.add(JsonAdaptedTag.read(parser, context));
+            }
+            return tags;
+        }
+    }
+
 }
@@ -1,14 +1,26 @@
 package seedu.address.storage;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonValue;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Tag}.
+ * A tag is written as its tag name, by {@link Serializer} and {@link Deserializer} rather than by reflection.
  */
+@JsonSerialize(using = JsonAdaptedTag.Serializer.class)
+@JsonDeserialize(using = JsonAdaptedTag.Deserializer.class)
 class JsonAdaptedTag {
 
     private final String tagName;
@@ -16,7 +28,6 @@ class JsonAdaptedTag {
     /**
      * Constructs a {@code JsonAdaptedTag} with the given {@code tagName}.
      */
-    @JsonCreator
     public JsonAdaptedTag(String tagName) {
         this.tagName = tagName;
     }
@@ -28,7 +39,6 @@ class JsonAdaptedTag {
         tagName = source.tagName;
     }
 
-    @JsonValue
     public String getTagName() {
         return tagName;
     }
@@ -45,4 +55,49 @@ class JsonAdaptedTag {
         return new Tag(tagName);
     }
 
+    /**
+     * Reads the tag at the current token of {@code parser}, which must be a JSON string.
+     */
+    static JsonAdaptedTag read(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.VALUE_STRING) {
+            throw context.mappingException(JsonAdaptedTag.class, parser.getCurrentToken());
+        }
+        return new JsonAdaptedTag(parser.getText());
+    }
+
+    /**
+     * Writes a {@code JsonAdaptedTag} as its tag name.
+     */
+    static class Serializer extends StdSerializer<JsonAdaptedTag> {
+
+        private static final long serialVersionUID = 1L;
+
+        Serializer() {
+            super(JsonAdaptedTag.class);
+        }
+
+        @Override
+        public void serialize(JsonAdaptedTag tag, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeString(tag.tagName);
+        }
+    }
+
+    /**
+     * Reads a {@code JsonAdaptedTag} from its tag name.
+     */
+    static class Deserializer extends StdDeserializer<JsonAdaptedTag> {
+
+        private static final long serialVersionUID = 1L;
+
+        Deserializer() {
+            super(JsonAdaptedTag.class);
+        }
+
+        @Override
+        public JsonAdaptedTag deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return read(parser, context);
+        }
+    }
+
 }
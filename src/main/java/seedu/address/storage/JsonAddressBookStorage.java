@@ -2,17 +2,36 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -21,10 +40,25 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC_FIRST_BYTE = 0x1f;
+    private static final int GZIP_MAGIC_SECOND_BYTE = 0x8b;
+
     private Path filePath;
+    private final StorageSettings storageSettings;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, new StorageSettings());
+    }
+
+    /**
+     * Creates a storage for the json file at {@code filePath} that saves and loads as set in
+     * {@code storageSettings}.
+     */
+    public JsonAddressBookStorage(Path filePath, StorageSettings storageSettings) {
+        requireNonNull(storageSettings);
         this.filePath = filePath;
+        this.storageSettings = storageSettings;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,6 +72,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is read as a stream, and each person is converted to the model as soon as it is read, so the
+     * memory needed is about that of the resulting address book. A file compressed with gzip is decompressed
+     * as it is read.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,20 +82,136 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        Optional<DataFileFormat> format = AddressBookStorageFactory.detectFormat(filePath);
+        if (!format.isPresent()) {
             return Optional.empty();
         }
+        if (format.get() != DataFileFormat.JSON) {
+            return AddressBookStorageFactory.createReader(filePath, format.get(), storageSettings)
+                    .readAddressBook(filePath);
+        }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = openDecompressing(filePath); JsonParser parser = JsonUtil.createParser(in)) {
+            return Optional.of(parseAddressBook(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    /**
+     * Opens the file at {@code filePath} for reading, decompressing it on the fly if it is compressed with gzip.
+     */
+    private static InputStream openDecompressing(Path filePath) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE);
+        try {
+            in.mark(2);
+            boolean isCompressed = in.read() == GZIP_MAGIC_FIRST_BYTE && in.read() == GZIP_MAGIC_SECOND_BYTE;
+            in.reset();
+            return isCompressed ? new GZIPInputStream(in, BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads an address book in the format of {@link JsonSerializableAddressBook} from {@code parser}, converting
+     * each person as it is read instead of building the whole {@code JsonSerializableAddressBook} first.
+     *
+     * @throws IOException if the content is not valid JSON or does not hold a list of persons.
+     * @throws IllegalValueException if a person holds invalid data or the list contains duplicate persons.
+     */
+    private AddressBook parseAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!fieldName.equals("persons")) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw JsonMappingException.from(parser, "Expected a list of persons");
+            }
+            addressBook = storageSettings.isParallelLoadEnabled()
+                    ? parsePersonsInParallel(parser)
+                    : parsePersons(parser);
+        }
+
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+            throw JsonMappingException.from(parser, "Unexpected end of address book");
+        }
+        if (addressBook == null) {
+            throw JsonMappingException.from(parser, "Missing list of persons");
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the rest of a list of persons from {@code parser}, converting each person as it is read.
+     */
+    private static AddressBook parsePersons(JsonParser parser) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        while (nextPerson(parser)) {
+            persons.add(parser.readValueAs(JsonAdaptedPerson.class).toModelType());
+        }
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the rest of a list of persons from {@code parser}, then converts and validates them in parallel.
+     * This holds all the adapted persons in memory at once, in exchange for using every core for validation.
+     * Errors are reported as {@link #parsePersons(JsonParser)} would: a person that fails validation before
+     * the point where the JSON becomes unreadable is reported in place of the parse error.
+     */
+    private static AddressBook parsePersonsInParallel(JsonParser parser) throws IOException, IllegalValueException {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        IOException parseError = null;
+        try {
+            while (nextPerson(parser)) {
+                adaptedPersons.add(parser.readValueAs(JsonAdaptedPerson.class));
+            }
+        } catch (IOException e) {
+            parseError = e;
+        }
+
+        List<Person> persons = JsonSerializableAddressBook.toModelPersonsInParallel(adaptedPersons);
+        if (parseError != null) {
+            throw parseError;
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Moves {@code parser} to the next person in a list of persons, returning false at the end of the list.
+     */
+    private static boolean nextPerson(JsonParser parser) throws IOException {
+        if (parser.nextToken() == JsonToken.END_ARRAY) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(parser, "Expected a person object");
+        }
+        return true;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -66,6 +219,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so a crash during the save leaves the previously saved data intact.
+     * Persons are written to the file as they are converted, so the save needs little memory beyond the model.
+     * The file is compressed with gzip if compression is enabled in the storage settings, and is written in the
+     * compact layout if compact JSON is enabled.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +230,67 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            boolean isCompact = storageSettings.isCompactJsonEnabled();
+            if (!storageSettings.isCompressionEnabled()) {
+                writeAddressBook(addressBook, out, isCompact);
+                return;
+            }
+            // Closing the gzip stream releases its native resources, but must leave the file open
+            try (GZIPOutputStream compressed = new GZIPOutputStream(new NonClosingOutputStream(out), BUFFER_SIZE)) {
+                writeAddressBook(addressBook, compressed, isCompact);
+            }
+        }, storageSettings.getDurabilityPolicy());
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out} as the same JSON as its {@link JsonSerializableAddressBook},
+     * one person at a time instead of building the whole {@code JsonSerializableAddressBook} first.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        writeAddressBook(addressBook, out, false);
+    }
+
+    /**
+     * Similar to {@link #writeAddressBook(ReadOnlyAddressBook, OutputStream)}, but writes the compact layout of
+     * {@link JsonAdaptedPerson#writeCompact(Person, JsonGenerator)} without whitespace if {@code isCompact} is true.
+     */
+    static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out, boolean isCompact)
+            throws IOException {
+        try (JsonGenerator generator = isCompact
+                ? JsonUtil.createCompactGenerator(out)
+                : JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("persons");
+            for (Person person : addressBook.getPersonList()) {
+                if (isCompact) {
+                    JsonAdaptedPerson.writeCompact(person, generator);
+                } else {
+                    JsonAdaptedPerson.write(person, generator);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Passes writes through to the wrapped stream, but only flushes it when closed.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
     }
 
 }
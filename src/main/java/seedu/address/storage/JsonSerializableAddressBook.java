@@ -1,8 +1,12 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -12,6 +16,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -57,4 +62,48 @@ class JsonSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Converts this address book into the model's {@code AddressBook} object like {@link #toModelType()}, but
+     * converts and validates the persons in parallel.
+     *
+     * @throws IllegalValueException the same exception {@link #toModelType()} would throw.
+     */
+    public AddressBook toModelTypeInParallel() throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(toModelPersonsInParallel(persons));
+        return addressBook;
+    }
+
+    /**
+     * Converts {@code adaptedPersons} into the model's {@code Person} objects, splitting the work across the
+     * common fork-join pool, and checks that the persons are unique.
+     *
+     * @throws IllegalValueException for the first person, in list order, that holds invalid data or duplicates an
+     *     earlier person; the same exception a conversion of one person after another would throw.
+     */
+    static List<Person> toModelPersonsInParallel(List<JsonAdaptedPerson> adaptedPersons)
+            throws IllegalValueException {
+        int size = adaptedPersons.size();
+        Person[] persons = new Person[size];
+        IllegalValueException[] errors = new IllegalValueException[size];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            try {
+                persons[i] = adaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        Set<PersonIdentity> identities = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            if (errors[i] != null) {
+                throw errors[i];
+            }
+            if (!identities.add(persons[i].getIdentity())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+        return Arrays.asList(persons);
+    }
+
 }
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Records the changes made to the person list of an address book, so that a storage can save a later state of
+ * the address book by writing only what changed.
+ */
+class PersonChangeRecorder {
+
+    /** Changes made to the tracked address book that are not yet taken, oldest first. */
+    private final Deque<PersonChange> changes = new ArrayDeque<>();
+    private boolean isTracking;
+
+    /**
+     * Starts recording the changes made to {@code addressBook}.
+     */
+    void track(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        isTracking = true;
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            long version = addressBook.getVersion();
+            synchronized (changes) {
+                while (change.next()) {
+                    if (change.wasPermutated() || change.wasUpdated()) {
+                        changes.add(new PersonChange(version, 0, null, null));
+                        continue;
+                    }
+                    changes.add(new PersonChange(version, change.getFrom(),
+                            new ArrayList<>(change.getRemoved()), new ArrayList<>(change.getAddedSubList())));
+                }
+            }
+        });
+    }
+
+    boolean isTracking() {
+        return isTracking;
+    }
+
+    /**
+     * Removes and returns the recorded changes that lead up to the state of the tracked address book at
+     * {@code version}, oldest first.
+     */
+    List<PersonChange> takeChangesUpTo(long version) {
+        List<PersonChange> taken = new ArrayList<>();
+        synchronized (changes) {
+            while (!changes.isEmpty() && changes.peekFirst().version <= version) {
+                taken.add(changes.removeFirst());
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * A change to the person list, tagged with the version of the address book right after it.
+     */
+    static class PersonChange {
+        private final long version;
+        private final int from;
+        private final List<Person> removed;
+        private final List<Person> added;
+
+        private PersonChange(long version, int from, List<Person> removed, List<Person> added) {
+            this.version = version;
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        /**
+         * Returns true if the change reorders the persons rather than replacing a range of them.
+         */
+        boolean isReorder() {
+            return removed == null;
+        }
+
+        /**
+         * Returns the position of the range of persons replaced.
+         */
+        int getFrom() {
+            return from;
+        }
+
+        List<Person> getRemoved() {
+            return removed;
+        }
+
+        List<Person> getAdded() {
+            return added;
+        }
+    }
+}
@@ -0,0 +1,732 @@
+package seedu.address.storage;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.storage.PersonChangeRecorder.PersonChange;
+
+/**
+ * A class to access AddressBook data stored as fixed-size slots of a record file on the hard disk.
+ *
+ * Each person is kept in a slot of the record file, and the part of a person too long for one slot, such as a long
+ * note or address, continues in overflow slots chained from it. The order of the persons is kept apart, in an
+ * index file holding the first slot of each person. Both files are in a directory next to the data file.
+ *
+ * Changes to a tracked address book are recorded as they happen, and the next save writes each changed person into
+ * free slots with positioned writes, then points the index at them. Editing a single person thus writes one slot, or
+ * a few for a long person, and patches its 4-byte index entry in place. Any other save, such as one adding, removing
+ * or reordering persons or one holding several edits, replaces the index atomically; the index takes 4 bytes a
+ * person, and no other slots are written. A slot is never overwritten while the saved index may point at it, so a
+ * crash during a save leaves the previously saved data intact. Slots no longer pointed at are kept on a free list
+ * for later saves to reuse; the list is rebuilt from the index on load. Other saves write both files afresh.
+ *
+ * As with {@link ShardedAddressBookStorage}, the data file itself is deleted once the address book is saved in a
+ * record file, and a data file found at the path is loaded instead of the record file, unless the index records it
+ * as the data file it replaced, as when a save is interrupted before the data file is deleted.
+ */
+public class RecordFileAddressBookStorage implements AddressBookStorage {
+
+    public static final String RECORD_DIRECTORY_SUFFIX = ".records";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported record file version %d.";
+    public static final String MESSAGE_CORRUPT_PERSON = "Person %d of the record file is corrupt.";
+
+    static final String INDEX_FILE_NAME = "index";
+    static final int SLOT_SIZE = 256;
+    static final int RECORD_FILE_MAGIC = 0x41424B53;
+    static final int INDEX_FILE_MAGIC = 0x41424B49;
+    static final int FORMAT_VERSION = 1;
+
+    /** Version of the index, which ends with the fingerprint of the data file it replaced. */
+    static final int INDEX_FORMAT_VERSION = 2;
+
+    /** Version of the index before it recorded the data file it replaced. */
+    static final int FIRST_INDEX_FORMAT_VERSION = 1;
+
+    /** Number of bytes of a person that fit in one slot, after the slot header. */
+    static final int SLOT_CAPACITY = SLOT_SIZE - 11;
+
+    /** Number of bytes before the first entry of the index: magic number, version, generation and entry count. */
+    static final int INDEX_FILE_HEADER_SIZE = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(RecordFileAddressBookStorage.class);
+
+    private static final String RECORD_FILE_PREFIX = "records-";
+    private static final int RECORD_FILE_HEADER_SIZE = 16;
+    private static final byte FIRST_SLOT = 1;
+    private static final byte OVERFLOW_SLOT = 2;
+    private static final int NO_SLOT = -1;
+
+    private final Path filePath;
+    private final StorageSettings storageSettings;
+    private final PersonChangeRecorder changeRecorder = new PersonChangeRecorder();
+
+    /** Persons last loaded from the record file at {@code filePath}, until the address book holding them is tracked. */
+    private List<Person> loadedPersons;
+
+    /** Layout of the record file at {@code filePath} as last loaded or saved. */
+    private SlotTable slotTable;
+
+    /** True if the files at {@code filePath} hold the last saved state of the tracked address book. */
+    private boolean isInStepWithFiles;
+
+    public RecordFileAddressBookStorage(Path filePath) {
+        this(filePath, new StorageSettings());
+    }
+
+    /**
+     * Creates a storage for the record file of the data file at {@code filePath} that saves and loads as set in
+     * {@code storageSettings}.
+     */
+    public RecordFileAddressBookStorage(Path filePath, StorageSettings storageSettings) {
+        requireNonNull(filePath);
+        requireNonNull(storageSettings);
+        this.filePath = filePath;
+        this.storageSettings = storageSettings;
+    }
+
+    /**
+     * Returns the path of the directory holding the record file and index of the data file at {@code dataFilePath}.
+     */
+    public static Path getRecordDirectoryPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + RECORD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if the address book of the data file at {@code dataFilePath} is kept in a record file, that is,
+     * if its record directory holds an index and the data file is either missing or the one the index replaced.
+     */
+    public static boolean isRecordFile(Path dataFilePath) {
+        Path indexPath = getRecordDirectoryPath(dataFilePath).resolve(INDEX_FILE_NAME);
+        if (!Files.exists(indexPath)) {
+            return false;
+        }
+        if (!Files.exists(dataFilePath)) {
+            return true;
+        }
+        try {
+            String supersededDataFile = readSupersededDataFile(indexPath);
+            return supersededDataFile != null && supersededDataFile.equals(FileUtil.getFingerprint(dataFilePath));
+        } catch (IOException e) {
+            // The data file is readable even if the index is not
+            return false;
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the data file the index at {@code indexPath} replaced, or null if it records none.
+     */
+    private static String readSupersededDataFile(Path indexPath) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+            if (in.readInt() != INDEX_FILE_MAGIC || in.readInt() != INDEX_FORMAT_VERSION) {
+                return null;
+            }
+            in.readLong();
+            int count = in.readInt();
+            in.skipNBytes((long) Integer.BYTES * count);
+            String supersededDataFile = in.readUTF();
+            return supersededDataFile.isEmpty() ? null : supersededDataFile;
+        }
+    }
+
+    /**
+     * Deletes the record file and index of the data file at {@code dataFilePath}, if any.
+     */
+    static void deleteRecordFile(Path dataFilePath) throws IOException {
+        FileUtil.deleteDirectory(getRecordDirectoryPath(dataFilePath));
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, which is expected to hold the data last loaded
+     * through {@link #readAddressBook()}. Changes are picked up by the next {@link #saveAddressBook}, which then
+     * only writes the persons they touched.
+     */
+    public void track(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        // The data may have changed on the way to the model, for instance through a journal
+        isInStepWithFiles = isInStepWithFiles && addressBook.getPersonList().equals(loadedPersons);
+        loadedPersons = null;
+        changeRecorder.track(addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The data file at {@code filePath} is read instead of the record file if it exists.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<DataFileFormat> format = AddressBookStorageFactory.detectFormat(filePath);
+        if (!format.isPresent()) {
+            return Optional.empty();
+        }
+        if (format.get() != DataFileFormat.RECORD_FILE) {
+            return AddressBookStorageFactory.createReader(filePath, format.get(), storageSettings)
+                    .readAddressBook(filePath);
+        }
+        Path recordDirectory = getRecordDirectoryPath(filePath);
+        logger.info("Record file of " + filePath + " found in " + recordDirectory + ".");
+
+        SlotTable table;
+        List<Person> persons;
+        try {
+            table = readIndex(recordDirectory);
+            persons = readPersons(recordDirectory, table);
+        } catch (IOException e) {
+            logger.warning("Error reading from record file of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in record file of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            slotTable = table;
+            loadedPersons = persons;
+            isInStepWithFiles = true;
+        }
+        return Optional.of(addressBook);
+    }
+
+    private static SlotTable readIndex(Path recordDirectory) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(recordDirectory.resolve(INDEX_FILE_NAME))))) {
+            if (in.readInt() != INDEX_FILE_MAGIC) {
+                throw new IOException("Not an index of a record file.");
+            }
+            int version = in.readInt();
+            if (version != INDEX_FORMAT_VERSION && version != FIRST_INDEX_FORMAT_VERSION) {
+                throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            long generation = in.readLong();
+            int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Malformed person count in the index.");
+            }
+            int[] index = new int[count];
+            for (int i = 0; i < count; i++) {
+                index[i] = in.readInt();
+            }
+            if (version == INDEX_FORMAT_VERSION) {
+                // The superseded data file only matters before the record file is found, in isRecordFile
+                in.readUTF();
+            }
+            if (in.read() != -1) {
+                throw new IOException("Unexpected data after the last index entry.");
+            }
+            return new SlotTable(generation, index);
+        } catch (EOFException e) {
+            throw new IOException("Unexpected end of the index.", e);
+        }
+    }
+
+    /**
+     * Reads the persons the index of {@code table} points at, and fills in the rest of {@code table}: the slots
+     * of the record file, the chains of slots holding each person, and the free slots.
+     *
+     * @throws IOException if a chain of slots is broken or fails its checksums.
+     * @throws IllegalValueException if a person holds invalid data.
+     */
+    private static List<Person> readPersons(Path recordDirectory, SlotTable table)
+            throws IOException, IllegalValueException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(table.getRecordFilePath(recordDirectory), READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Record file is too large to be mapped into memory.");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.limit() < RECORD_FILE_HEADER_SIZE || buffer.getInt(0) != RECORD_FILE_MAGIC) {
+            throw new IOException("Not a record file.");
+        }
+        int version = buffer.getInt(4);
+        if (version != FORMAT_VERSION || buffer.getInt(8) != SLOT_SIZE) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        // A slot cut short by a crash is never pointed at, so it is left out
+        table.slotCount = (buffer.limit() - RECORD_FILE_HEADER_SIZE) / SLOT_SIZE;
+        table.nextSlots = new int[Math.max(table.slotCount, 16)];
+        BitSet usedSlots = new BitSet(table.slotCount);
+        List<Person> persons = new ArrayList<>(table.index.length);
+        for (int i = 0; i < table.index.length; i++) {
+            byte[] content = readChain(buffer, table, usedSlots, i);
+            Person person = decodePerson(content, i).toModelType();
+            persons.add(person);
+            table.firstSlots.put(person.getIdentity(), table.index[i]);
+        }
+        for (int slot = usedSlots.nextClearBit(0); slot < table.slotCount; slot = usedSlots.nextClearBit(slot + 1)) {
+            table.freeSlots.add(slot);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the content of the chain of slots holding the person at {@code position} of the index, after checking
+     * each slot, and marks the slots in {@code usedSlots}.
+     */
+    private static byte[] readChain(ByteBuffer buffer, SlotTable table, BitSet usedSlots, int position)
+            throws IOException {
+        IOException corrupt = new IOException(String.format(MESSAGE_CORRUPT_PERSON, position + 1));
+        ByteArrayOutputStream content = new ByteArrayOutputStream(SLOT_CAPACITY);
+        byte expectedKind = FIRST_SLOT;
+        int slot = table.index[position];
+        while (slot != NO_SLOT) {
+            if (slot < 0 || slot >= table.slotCount || usedSlots.get(slot)) {
+                throw corrupt;
+            }
+            usedSlots.set(slot);
+            int offset = (int) getSlotOffset(slot);
+            try {
+                byte kind = buffer.get(offset);
+                int next = buffer.getInt(offset + 1);
+                int length = Short.toUnsignedInt(buffer.getShort(offset + 5));
+                if (kind != expectedKind || length > SLOT_CAPACITY) {
+                    throw corrupt;
+                }
+                byte[] slotBytes = new byte[SLOT_SIZE];
+                buffer.get(offset, slotBytes);
+                if (buffer.getInt(offset + 7) != checksumOf(slotBytes, length)) {
+                    throw corrupt;
+                }
+                content.write(slotBytes, SLOT_SIZE - SLOT_CAPACITY, length);
+                table.nextSlots[slot] = next;
+                slot = next;
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw corrupt;
+            }
+            expectedKind = OVERFLOW_SLOT;
+        }
+        return content.toByteArray();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * If {@code addressBook} is a state of the tracked address book, only the persons changed since the last save
+     * are written. Otherwise the record file and index are written afresh, and the data file at {@code filePath},
+     * if any, is deleted.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeAfresh(addressBook, filePath);
+            return;
+        }
+
+        List<PersonChange> changes = changeRecorder.takeChangesUpTo(addressBook.getVersion());
+        boolean isSaved = false;
+        if (changeRecorder.isTracking() && isInStepWithFiles) {
+            isInStepWithFiles = false;
+            isSaved = saveChanges(addressBook, changes);
+        }
+        if (!isSaved) {
+            isInStepWithFiles = false;
+            slotTable = writeAfresh(addressBook, filePath);
+        }
+        isInStepWithFiles = changeRecorder.isTracking();
+    }
+
+    /**
+     * Writes the persons added or edited by {@code changes} into free slots, then points the index at them.
+     * Returns false, possibly after writing some slots, if the changes do not lead from the saved persons to those
+     * of {@code addressBook}.
+     */
+    private boolean saveChanges(ReadOnlyAddressBook addressBook, List<PersonChange> changes) throws IOException {
+        SlotTable table = slotTable;
+        Path recordDirectory = getRecordDirectoryPath(filePath);
+        List<Person> persons = addressBook.getPersonList();
+
+        Map<PersonIdentity, Person> removedPersons = new HashMap<>();
+        Map<PersonIdentity, Integer> removedSlots = new HashMap<>();
+        List<Integer> replacedSlots = new ArrayList<>();
+        Map<Integer, Integer> changedEntries = new HashMap<>();
+        boolean isIndexRewritten = false;
+        try (FileChannel channel = FileChannel.open(table.getRecordFilePath(recordDirectory), WRITE)) {
+            for (PersonChange change : changes) {
+                if (change.isReorder()) {
+                    isIndexRewritten = true;
+                    continue;
+                }
+                isIndexRewritten |= change.getRemoved().size() != change.getAdded().size();
+                for (Person person : change.getRemoved()) {
+                    Integer slot = table.firstSlots.remove(person.getIdentity());
+                    if (slot == null) {
+                        return false;
+                    }
+                    removedPersons.put(person.getIdentity(), person);
+                    removedSlots.put(person.getIdentity(), slot);
+                }
+                for (int i = 0; i < change.getAdded().size(); i++) {
+                    Person person = change.getAdded().get(i);
+                    Person removedPerson = removedPersons.remove(person.getIdentity());
+                    Integer removedSlot = removedSlots.remove(person.getIdentity());
+                    int slot;
+                    if (person.equals(removedPerson)) {
+                        // Put back unchanged, as when an undo restores the whole list
+                        slot = removedSlot;
+                    } else {
+                        if (removedSlot != null) {
+                            replacedSlots.add(removedSlot);
+                        }
+                        slot = writePerson(channel, table, person);
+                    }
+                    if (table.firstSlots.put(person.getIdentity(), slot) != null) {
+                        return false;
+                    }
+                    changedEntries.put(change.getFrom() + i, slot);
+                }
+            }
+            if (table.firstSlots.size() != persons.size()) {
+                return false;
+            }
+            force(channel);
+        }
+
+        if (!isIndexRewritten && changedEntries.size() <= 1) {
+            // A single aligned 4-byte write lands whole or not at all, so the index always matches one save
+            for (Map.Entry<Integer, Integer> entry : changedEntries.entrySet()) {
+                writeIndexEntry(recordDirectory, entry.getKey(), entry.getValue());
+                table.index[entry.getKey()] = entry.getValue();
+            }
+        } else {
+            // Several entries cannot be patched in place without a crash mixing two saves, so replace the index
+            int[] index = new int[persons.size()];
+            for (int i = 0; i < index.length; i++) {
+                Integer slot = table.firstSlots.get(persons.get(i).getIdentity());
+                if (slot == null) {
+                    return false;
+                }
+                index[i] = slot;
+            }
+            writeIndex(recordDirectory, table.generation, index, filePath);
+            table.index = index;
+        }
+        // Left behind only if an earlier save was interrupted, and recorded in the index as replaced
+        Files.deleteIfExists(filePath);
+
+        // Only now that the index no longer points at them can the slots be reused
+        replacedSlots.forEach(table::free);
+        removedSlots.values().forEach(table::free);
+        logger.fine("Saved " + changes.size() + " changes to the record file of " + filePath);
+        return true;
+    }
+
+    /**
+     * Writes {@code person} into free slots of the record file, and returns the first of them.
+     */
+    private int writePerson(FileChannel channel, SlotTable table, Person person) throws IOException {
+        byte[] content = encodePerson(person);
+        int slotCount = Math.max(1, (content.length + SLOT_CAPACITY - 1) / SLOT_CAPACITY);
+        int[] slots = new int[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = table.allocate();
+        }
+        for (int i = 0; i < slotCount; i++) {
+            int next = i + 1 < slotCount ? slots[i + 1] : NO_SLOT;
+            ByteBuffer slot = encodeSlot(i == 0 ? FIRST_SLOT : OVERFLOW_SLOT, next, content, i * SLOT_CAPACITY);
+            writeFully(channel, slot, getSlotOffset(slots[i]));
+            table.nextSlots[slots[i]] = next;
+        }
+        return slots[0];
+    }
+
+    private void writeIndexEntry(Path recordDirectory, int position, int slot) throws IOException {
+        try (FileChannel channel = FileChannel.open(recordDirectory.resolve(INDEX_FILE_NAME), WRITE)) {
+            ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES).putInt(0, slot);
+            writeFully(channel, entry, INDEX_FILE_HEADER_SIZE + (long) Integer.BYTES * position);
+            force(channel);
+        }
+    }
+
+    private void force(FileChannel channel) throws IOException {
+        if (storageSettings.getDurabilityPolicy() != DurabilityPolicy.NONE) {
+            channel.force(false);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Writes every person of {@code addressBook} into a new record file next to the data file at {@code filePath},
+     * one after another, then commits it by replacing the index. Returns the layout of the new record file.
+     */
+    private SlotTable writeAfresh(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        Path recordDirectory = getRecordDirectoryPath(filePath);
+        Files.createDirectories(recordDirectory);
+        List<Person> persons = addressBook.getPersonList();
+        SlotTable table = new SlotTable(getLatestGeneration(recordDirectory) + 1, new int[persons.size()]);
+
+        FileUtil.writeToFileAtomically(table.getRecordFilePath(recordDirectory), out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(RECORD_FILE_MAGIC);
+            data.writeInt(FORMAT_VERSION);
+            data.writeInt(SLOT_SIZE);
+            data.writeInt(0);
+            for (int i = 0; i < persons.size(); i++) {
+                Person person = persons.get(i);
+                byte[] content = encodePerson(person);
+                table.index[i] = table.slotCount;
+                table.firstSlots.put(person.getIdentity(), table.slotCount);
+                for (int offset = 0; offset == 0 || offset < content.length; offset += SLOT_CAPACITY) {
+                    int slot = table.allocate();
+                    int next = offset + SLOT_CAPACITY < content.length ? slot + 1 : NO_SLOT;
+                    table.nextSlots[slot] = next;
+                    data.write(encodeSlot(offset == 0 ? FIRST_SLOT : OVERFLOW_SLOT, next, content, offset).array());
+                }
+            }
+            data.flush();
+        }, storageSettings.getDurabilityPolicy());
+        // The data file stays behind if the save is interrupted before it is deleted, so the index records it
+        writeIndex(recordDirectory, table.generation, table.index, filePath);
+
+        Files.deleteIfExists(filePath);
+        deleteOtherRecordFiles(recordDirectory, table);
+        ShardedAddressBookStorage.deleteShards(filePath);
+        logger.fine("Wrote " + persons.size() + " persons afresh to " + table.getRecordFilePath(recordDirectory));
+        return table;
+    }
+
+    /**
+     * Replaces the index in {@code recordDirectory}, recording the data file at {@code dataFilePath}, if any, as
+     * the one it replaces.
+     */
+    private void writeIndex(Path recordDirectory, long generation, int[] index, Path dataFilePath)
+            throws IOException {
+        String supersededDataFile = Files.exists(dataFilePath) ? FileUtil.getFingerprint(dataFilePath) : "";
+        FileUtil.writeToFileAtomically(recordDirectory.resolve(INDEX_FILE_NAME), out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeInt(INDEX_FILE_MAGIC);
+            data.writeInt(INDEX_FORMAT_VERSION);
+            data.writeLong(generation);
+            data.writeInt(index.length);
+            for (int slot : index) {
+                data.writeInt(slot);
+            }
+            data.writeUTF(supersededDataFile);
+            data.flush();
+        }, storageSettings.getDurabilityPolicy());
+    }
+
+    private static long getLatestGeneration(Path recordDirectory) throws IOException {
+        long latestGeneration = 0;
+        for (String recordFile : listRecordFiles(recordDirectory)) {
+            try {
+                latestGeneration = Math.max(latestGeneration,
+                        Long.parseLong(recordFile.substring(RECORD_FILE_PREFIX.length())));
+            } catch (NumberFormatException e) {
+                // Not written by this storage, so it cannot clash with the generated names
+            }
+        }
+        return latestGeneration;
+    }
+
+    /**
+     * Deletes the record files in {@code recordDirectory} other than that of {@code table}, such as the one it
+     * replaced and those left by an interrupted save.
+     */
+    private static void deleteOtherRecordFiles(Path recordDirectory, SlotTable table) {
+        Path current = table.getRecordFilePath(recordDirectory);
+        try {
+            for (String recordFile : listRecordFiles(recordDirectory)) {
+                if (!recordDirectory.resolve(recordFile).equals(current)) {
+                    Files.deleteIfExists(recordDirectory.resolve(recordFile));
+                }
+            }
+        } catch (IOException e) {
+            // The save is already committed, so the files are only left for the next save to delete
+            logger.warning("Could not delete old record files in " + recordDirectory + ": " + e);
+        }
+    }
+
+    private static List<String> listRecordFiles(Path recordDirectory) throws IOException {
+        List<String> recordFiles = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(recordDirectory, RECORD_FILE_PREFIX + "*")) {
+            files.forEach(file -> recordFiles.add(file.getFileName().toString()));
+        }
+        return recordFiles;
+    }
+
+    private static long getSlotOffset(int slot) {
+        return RECORD_FILE_HEADER_SIZE + (long) SLOT_SIZE * slot;
+    }
+
+    /**
+     * Returns a full slot of the given {@code kind} holding the part of {@code content} from {@code offset} that
+     * fits in it: a header of the kind, the next slot of the chain, the length of the part and a checksum,
+     * followed by the part.
+     */
+    private static ByteBuffer encodeSlot(byte kind, int next, byte[] content, int offset) {
+        int length = Math.min(SLOT_CAPACITY, content.length - offset);
+        byte[] slotBytes = new byte[SLOT_SIZE];
+        ByteBuffer slot = ByteBuffer.wrap(slotBytes);
+        slot.put(kind).putInt(next).putShort((short) length);
+        System.arraycopy(content, offset, slotBytes, SLOT_SIZE - SLOT_CAPACITY, length);
+        slot.putInt(7, checksumOf(slotBytes, length));
+        return slot.rewind();
+    }
+
+    /**
+     * Returns the checksum of the slot in {@code slotBytes}, covering its kind, next slot, length and content.
+     */
+    private static int checksumOf(byte[] slotBytes, int length) {
+        CRC32 checksum = new CRC32();
+        checksum.update(slotBytes, 0, 7);
+        checksum.update(slotBytes, SLOT_SIZE - SLOT_CAPACITY, length);
+        return (int) checksum.getValue();
+    }
+
+    private static byte[] encodePerson(Person person) throws IOException {
+        JsonAdaptedPerson adaptedPerson = new JsonAdaptedPerson(person);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(SLOT_CAPACITY);
+        DataOutputStream data = new DataOutputStream(bytes);
+        BinaryAddressBookStorage.writeString(data, adaptedPerson.getName());
+        BinaryAddressBookStorage.writeString(data, adaptedPerson.getPhone());
+        BinaryAddressBookStorage.writeString(data, adaptedPerson.getEmail());
+        BinaryAddressBookStorage.writeString(data, adaptedPerson.getAddress());
+        BinaryAddressBookStorage.writeString(data, adaptedPerson.getCompany());
+        BinaryAddressBookStorage.writeVarInt(data, adaptedPerson.getTags().size());
+        for (JsonAdaptedTag tag : adaptedPerson.getTags()) {
+            BinaryAddressBookStorage.writeString(data, tag.getTagName());
+        }
+        BinaryAddressBookStorage.writeString(data, adaptedPerson.getNote());
+        BinaryAddressBookStorage.writeString(data, adaptedPerson.getNoteLastEdited());
+        BinaryAddressBookStorage.writeString(data, adaptedPerson.getPriority());
+        return bytes.toByteArray();
+    }
+
+    private static JsonAdaptedPerson decodePerson(byte[] content, int position) throws IOException {
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(content));
+        try {
+            String name = BinaryAddressBookStorage.readString(data);
+            String phone = BinaryAddressBookStorage.readString(data);
+            String email = BinaryAddressBookStorage.readString(data);
+            String address = BinaryAddressBookStorage.readString(data);
+            String company = BinaryAddressBookStorage.readString(data);
+            int tagCount = BinaryAddressBookStorage.readVarInt(data);
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new JsonAdaptedTag(BinaryAddressBookStorage.readString(data)));
+            }
+            String note = BinaryAddressBookStorage.readString(data);
+            String noteLastEdited = BinaryAddressBookStorage.readString(data);
+            String priority = BinaryAddressBookStorage.readString(data);
+            return new JsonAdaptedPerson(name, phone, email, address, company, tags, note, noteLastEdited, priority);
+        } catch (EOFException e) {
+            throw new IOException(String.format(MESSAGE_CORRUPT_PERSON, position + 1), e);
+        }
+    }
+
+    /**
+     * The layout of a record file: the first slot of each person, in list order, and of each identity; the next
+     * slot of each slot; and the slots free for reuse.
+     */
+    private static class SlotTable {
+        private final long generation;
+        private int[] index;
+        private final Map<PersonIdentity, Integer> firstSlots = new HashMap<>();
+        private int[] nextSlots = new int[16];
+        private int slotCount;
+        private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+        SlotTable(long generation, int[] index) {
+            this.generation = generation;
+            this.index = index;
+        }
+
+        Path getRecordFilePath(Path recordDirectory) {
+            return recordDirectory.resolve(RECORD_FILE_PREFIX + generation);
+        }
+
+        /**
+         * Returns a free slot, taken from the free list or else from the end of the file.
+         */
+        int allocate() {
+            if (!freeSlots.isEmpty()) {
+                return freeSlots.pop();
+            }
+            if (slotCount == nextSlots.length) {
+                nextSlots = Arrays.copyOf(nextSlots, slotCount * 2);
+            }
+            return slotCount++;
+        }
+
+        /**
+         * Puts every slot of the chain starting at {@code firstSlot} on the free list.
+         */
+        void free(int firstSlot) {
+            for (int slot = firstSlot; slot != NO_SLOT; slot = nextSlots[slot]) {
+                freeSlots.push(slot);
+            }
+        }
+    }
+}
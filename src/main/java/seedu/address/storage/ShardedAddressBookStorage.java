@@ -0,0 +1,607 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.storage.PersonChangeRecorder.PersonChange;
+
+/**
+ * A class to access AddressBook data split across several shard files on the hard disk.
+ *
+ * Each person is kept in one of the shard files, chosen by the hash of its identity, in a directory next to the
+ * data file. A manifest in the directory lists the current shard files, and is replaced atomically once the new
+ * shard files are written, so a crash during a save leaves the previously saved data intact. Each person is saved
+ * with an order key that places it in the address book, so that a change to some persons only rewrites the
+ * shards holding them. Changes to a tracked address book are recorded as they happen, and the next save only
+ * rewrites the shards they touched; other saves rewrite every shard. Shards are loaded in parallel.
+ *
+ * The number of shards is the shard count of the storage settings, raised as the address book grows so that a
+ * shard holds a few hundred persons and a single edit rewrites a few hundred kilobytes. It is only changed, and
+ * every shard rewritten, once the address book has doubled or shrunk to a quarter of the size it was chosen for.
+ *
+ * The data file itself is deleted once the address book is saved in shards. A data file found at the path is
+ * therefore newer than the shards, and is loaded instead of them, unless the manifest records it as the data file
+ * it replaced, as when a save is interrupted before the data file is deleted. Conversely, the other storages load
+ * the shards when the data file is missing, so changing the data file format converts the data on its next save.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    /** Most persons a shard holds on average before the shards are split further. */
+    static final int MAX_PERSONS_PER_SHARD = 1024;
+
+    /** Distance between the order keys of consecutive persons when the order keys are assigned afresh. */
+    static final long ORDER_KEY_GAP = 1L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private static final String SHARD_FILE_PREFIX = "shard-";
+    private static final String SHARD_FILE_SUFFIX = ".json";
+    private static final long MIN_ORDER_KEY = Long.MIN_VALUE / 2;
+    private static final long MAX_ORDER_KEY = Long.MAX_VALUE / 2;
+
+    private final Path filePath;
+    private final StorageSettings storageSettings;
+
+    private final PersonChangeRecorder changeRecorder = new PersonChangeRecorder();
+
+    /** Persons last loaded from the shards at {@code filePath}, until the address book holding them is tracked. */
+    private List<Person> loadedPersons;
+
+    /** Manifest and order keys of the shards at {@code filePath} as last loaded or saved. */
+    private ShardManifest savedManifest;
+    private long[] savedOrderKeys;
+
+    /** True if the shards at {@code filePath} hold the last saved state of the tracked address book. */
+    private boolean isInStepWithShards;
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, new StorageSettings());
+    }
+
+    /**
+     * Creates a storage for the shards of the data file at {@code filePath} that saves and loads as set in
+     * {@code storageSettings}.
+     */
+    public ShardedAddressBookStorage(Path filePath, StorageSettings storageSettings) {
+        requireNonNull(filePath);
+        requireNonNull(storageSettings);
+        this.filePath = filePath;
+        this.storageSettings = storageSettings;
+    }
+
+    /**
+     * Returns the path of the directory holding the shards of the data file at {@code dataFilePath}.
+     */
+    public static Path getShardDirectoryPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if the address book of the data file at {@code dataFilePath} is kept in shards, that is, if
+     * its shard directory holds a manifest and the data file is either missing or the one the manifest replaced.
+     */
+    public static boolean isSharded(Path dataFilePath) {
+        Path shardDirectory = getShardDirectoryPath(dataFilePath);
+        if (!Files.exists(shardDirectory.resolve(MANIFEST_FILE_NAME))) {
+            return false;
+        }
+        if (!Files.exists(dataFilePath)) {
+            return true;
+        }
+        try {
+            String supersededDataFile = readManifest(shardDirectory).getSupersededDataFile();
+            return supersededDataFile != null && supersededDataFile.equals(FileUtil.getFingerprint(dataFilePath));
+        } catch (IOException e) {
+            // The data file is readable even if the manifest is not
+            return false;
+        }
+    }
+
+    /**
+     * Deletes the shards of the data file at {@code dataFilePath}, if any.
+     */
+    static void deleteShards(Path dataFilePath) throws IOException {
+        FileUtil.deleteDirectory(getShardDirectoryPath(dataFilePath));
+    }
+
+    /**
+     * Returns the shard {@code person} is kept in, out of {@code shardCount} shards.
+     */
+    static int getShard(Person person, int shardCount) {
+        // The low bits of identity hashes are poorly spread for names and phones that differ only in their digits,
+        // so every bit of the hash is mixed into them first
+        int hash = person.getIdentity().hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return Math.floorMod(hash, shardCount);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Starts recording the changes made to {@code addressBook}, which is expected to hold the data last loaded
+     * through {@link #readAddressBook()}. Changes are picked up by the next {@link #saveAddressBook}, which then
+     * only rewrites the shards they touched.
+     */
+    public void track(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        // The data may have changed on the way to the model, for instance through a journal
+        isInStepWithShards = isInStepWithShards && addressBook.getPersonList().equals(loadedPersons);
+        loadedPersons = null;
+        changeRecorder.track(addressBook);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The data file at {@code filePath} is read instead of the shards if it exists.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<DataFileFormat> format = AddressBookStorageFactory.detectFormat(filePath);
+        if (!format.isPresent()) {
+            return Optional.empty();
+        }
+        if (format.get() != DataFileFormat.SHARDED) {
+            return AddressBookStorageFactory.createReader(filePath, format.get(), storageSettings)
+                    .readAddressBook(filePath);
+        }
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        logger.info("Shards of " + filePath + " found in " + shardDirectory + ".");
+
+        ShardManifest manifest;
+        List<OrderedPerson> orderedPersons;
+        try {
+            manifest = readManifest(shardDirectory);
+            orderedPersons = readShards(shardDirectory, manifest);
+        } catch (IOException e) {
+            logger.warning("Error reading from shards of " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in shards of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        // A stable sort keeps the persons of one shard in file order should two order keys be equal
+        orderedPersons.sort(Comparator.comparingLong(orderedPerson -> orderedPerson.orderKey));
+        List<Person> persons = new ArrayList<>(orderedPersons.size());
+        long[] orderKeys = new long[orderedPersons.size()];
+        for (int i = 0; i < orderKeys.length; i++) {
+            persons.add(orderedPersons.get(i).person);
+            orderKeys[i] = orderedPersons.get(i).orderKey;
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new DataLoadingException(
+                    new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedManifest = manifest;
+            savedOrderKeys = orderKeys;
+            loadedPersons = persons;
+            isInStepWithShards = true;
+        }
+        return Optional.of(addressBook);
+    }
+
+    private static ShardManifest readManifest(Path shardDirectory) throws IOException {
+        ShardManifest manifest = JsonUtil.fromJsonString(
+                FileUtil.readFromFile(shardDirectory.resolve(MANIFEST_FILE_NAME)), ShardManifest.class);
+        if (manifest.getShardCount() < 1 || manifest.getShardFiles().size() != manifest.getShardCount()) {
+            throw new IOException("Manifest of " + shardDirectory + " does not list every shard.");
+        }
+        return manifest;
+    }
+
+    /**
+     * Reads and converts the persons of every shard in {@code manifest}, one shard per task of the common
+     * fork-join pool.
+     *
+     * @throws IOException if a shard cannot be read.
+     * @throws IllegalValueException if a person holds invalid data.
+     */
+    private static List<OrderedPerson> readShards(Path shardDirectory, ShardManifest manifest)
+            throws IOException, IllegalValueException {
+        int shardCount = manifest.getShardCount();
+        List<List<OrderedPerson>> shards = new ArrayList<>(Collections.nCopies(shardCount, null));
+        Exception[] errors = new Exception[shardCount];
+        IntStream.range(0, shardCount).parallel().forEach(shard -> {
+            try {
+                shards.set(shard, readShard(shardDirectory.resolve(manifest.getShardFiles().get(shard))));
+            } catch (IOException | IllegalValueException e) {
+                errors[shard] = e;
+            }
+        });
+
+        List<OrderedPerson> orderedPersons = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (errors[shard] instanceof IOException) {
+                throw (IOException) errors[shard];
+            } else if (errors[shard] != null) {
+                throw (IllegalValueException) errors[shard];
+            }
+            orderedPersons.addAll(shards.get(shard));
+        }
+        return orderedPersons;
+    }
+
+    private static List<OrderedPerson> readShard(Path shardFilePath) throws IOException, IllegalValueException {
+        ShardFile shardFile;
+        try (InputStream in = Files.newInputStream(shardFilePath); JsonParser parser = JsonUtil.createParser(in)) {
+            shardFile = parser.readValueAs(ShardFile.class);
+        }
+        if (shardFile == null || shardFile.orderKeys.size() != shardFile.persons.size()) {
+            throw new IOException("Shard " + shardFilePath + " does not hold an order key for every person.");
+        }
+
+        List<OrderedPerson> orderedPersons = new ArrayList<>(shardFile.persons.size());
+        for (int i = 0; i < shardFile.persons.size(); i++) {
+            orderedPersons.add(new OrderedPerson(shardFile.orderKeys.get(i), shardFile.persons.get(i).toModelType()));
+        }
+        return orderedPersons;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * If {@code addressBook} is a state of the tracked address book, only the shards changed since the last save
+     * are rewritten. The data file at {@code filePath}, if any, is deleted once the shards are saved.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        int size = addressBook.getPersonList().size();
+        if (!filePath.equals(this.filePath)) {
+            int shardCount = chooseShardCount(size, null);
+            BitSet allShards = new BitSet();
+            allShards.set(0, shardCount);
+            writeShards(addressBook, filePath, assignOrderKeys(size), shardCount, allShards, null);
+            return;
+        }
+
+        List<PersonChange> changes = changeRecorder.takeChangesUpTo(addressBook.getVersion());
+        boolean canApplyChanges = changeRecorder.isTracking() && isInStepWithShards;
+        int shardCount = chooseShardCount(size, canApplyChanges ? savedManifest : null);
+        BitSet dirtyShards = new BitSet();
+        long[] orderKeys = canApplyChanges && shardCount == savedManifest.getShardCount()
+                ? applyChanges(savedOrderKeys, changes, dirtyShards, shardCount)
+                : null;
+        if (orderKeys == null || orderKeys.length != size) {
+            orderKeys = assignOrderKeys(size);
+            dirtyShards.set(0, shardCount);
+        }
+
+        isInStepWithShards = false;
+        ShardManifest manifest = writeShards(addressBook, filePath, orderKeys, shardCount, dirtyShards,
+                savedManifest);
+        savedManifest = manifest;
+        savedOrderKeys = orderKeys;
+        isInStepWithShards = changeRecorder.isTracking();
+    }
+
+    /**
+     * Returns the number of shards to save an address book of {@code size} persons in, keeping the number of
+     * shards of {@code currentManifest}, if given, while it is still suited to the size.
+     */
+    private int chooseShardCount(int size, ShardManifest currentManifest) {
+        int minShardCount = storageSettings.getShardCount();
+        if (currentManifest != null) {
+            long currentShardCount = currentManifest.getShardCount();
+            boolean isLargeEnough = currentShardCount * MAX_PERSONS_PER_SHARD >= size;
+            boolean isSmallEnough = currentShardCount == minShardCount
+                    || currentShardCount * MAX_PERSONS_PER_SHARD / 8 <= size;
+            if (currentShardCount >= minShardCount && isLargeEnough && isSmallEnough) {
+                return currentManifest.getShardCount();
+            }
+        }
+        // Half full, so that the address book can double before the shards are split again
+        int shardCountForSize = (int) Math.ceil(size / (MAX_PERSONS_PER_SHARD / 2.0));
+        return Math.max(minShardCount, shardCountForSize);
+    }
+
+    /**
+     * Returns the order keys of the persons after {@code changes} are made to persons with {@code orderKeys},
+     * and marks the shards holding the changed persons in {@code dirtyShards}. Returns null if the order keys
+     * have to be assigned afresh.
+     */
+    private static long[] applyChanges(long[] orderKeys, List<PersonChange> changes, BitSet dirtyShards,
+            int shardCount) {
+        long[] keys = orderKeys;
+        for (PersonChange change : changes) {
+            // Every order key changes on a reorder, so every shard is rewritten
+            if (change.isReorder() || change.getFrom() + change.getRemoved().size() > keys.length) {
+                return null;
+            }
+            change.getRemoved().forEach(person -> dirtyShards.set(getShard(person, shardCount)));
+            change.getAdded().forEach(person -> dirtyShards.set(getShard(person, shardCount)));
+            keys = insertOrderKeys(removeOrderKeys(keys, change.getFrom(), change.getRemoved().size()),
+                    change.getFrom(), change.getAdded().size());
+            if (keys == null) {
+                return null;
+            }
+        }
+        return keys;
+    }
+
+    private static long[] removeOrderKeys(long[] keys, int from, int count) {
+        if (count == 0) {
+            return keys;
+        }
+        long[] result = new long[keys.length - count];
+        System.arraycopy(keys, 0, result, 0, from);
+        System.arraycopy(keys, from + count, result, from, result.length - from);
+        return result;
+    }
+
+    /**
+     * Returns {@code keys} with {@code count} new order keys inserted at {@code from}, between the keys around
+     * them, or null if there is no room left between those keys.
+     */
+    private static long[] insertOrderKeys(long[] keys, int from, int count) {
+        if (count == 0) {
+            return keys;
+        }
+        long lower = from > 0 ? keys[from - 1] : MIN_ORDER_KEY;
+        long upper = from < keys.length ? keys[from] : MAX_ORDER_KEY;
+        long step = Math.min(ORDER_KEY_GAP, (upper - lower) / (count + 1));
+        if (step == 0) {
+            return null;
+        }
+
+        long[] result = new long[keys.length + count];
+        System.arraycopy(keys, 0, result, 0, from);
+        for (int i = 0; i < count; i++) {
+            result[from + i] = lower + step * (i + 1);
+        }
+        System.arraycopy(keys, from, result, from + count, keys.length - from);
+        return result;
+    }
+
+    private static long[] assignOrderKeys(int size) {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = i * ORDER_KEY_GAP;
+        }
+        return keys;
+    }
+
+    /**
+     * Writes the shards in {@code dirtyShards} of {@code addressBook}, whose persons have {@code orderKeys}, split
+     * across {@code shardCount} shards next to the data file at {@code filePath}, then commits them by replacing
+     * the manifest. Shards that are not dirty are taken from {@code previousManifest}. Returns the new manifest.
+     */
+    private ShardManifest writeShards(ReadOnlyAddressBook addressBook, Path filePath, long[] orderKeys,
+            int shardCount, BitSet dirtyShards, ShardManifest previousManifest) throws IOException {
+        Path shardDirectory = getShardDirectoryPath(filePath);
+        Files.createDirectories(shardDirectory);
+        long generation = getLatestGeneration(shardDirectory) + 1;
+
+        List<Person> persons = addressBook.getPersonList();
+        int[] shardOfPerson = new int[persons.size()];
+        for (int i = 0; i < shardOfPerson.length; i++) {
+            shardOfPerson[i] = getShard(persons.get(i), shardCount);
+        }
+
+        List<String> shardFiles = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            if (!dirtyShards.get(shard)) {
+                shardFiles.add(previousManifest.getShardFiles().get(shard));
+                continue;
+            }
+            String shardFile = SHARD_FILE_PREFIX + shard + "-" + generation + SHARD_FILE_SUFFIX;
+            int currentShard = shard;
+            FileUtil.writeToFileAtomically(shardDirectory.resolve(shardFile),
+                out -> writeShard(persons, orderKeys, shardOfPerson, currentShard, out),
+                storageSettings.getDurabilityPolicy());
+            shardFiles.add(shardFile);
+        }
+
+        // The data file stays behind if the save is interrupted before it is deleted, so the manifest records it
+        String supersededDataFile = Files.exists(filePath) ? FileUtil.getFingerprint(filePath) : null;
+        ShardManifest manifest = new ShardManifest(shardCount, generation, shardFiles, supersededDataFile);
+        FileUtil.writeToFileAtomically(shardDirectory.resolve(MANIFEST_FILE_NAME), JsonUtil.toJsonString(manifest),
+                storageSettings.getDurabilityPolicy());
+        logger.fine("Saved " + dirtyShards.cardinality() + " of " + shardCount + " shards to " + shardDirectory);
+
+        Files.deleteIfExists(filePath);
+        RecordFileAddressBookStorage.deleteRecordFile(filePath);
+        deleteUnlistedShards(shardDirectory, manifest);
+        return manifest;
+    }
+
+    private static void writeShard(List<Person> persons, long[] orderKeys, int[] shardOfPerson, int shard,
+            OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("orderKeys");
+            for (int i = 0; i < orderKeys.length; i++) {
+                if (shardOfPerson[i] == shard) {
+                    generator.writeNumber(orderKeys[i]);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("persons");
+            for (int i = 0; i < orderKeys.length; i++) {
+                if (shardOfPerson[i] == shard) {
+                    JsonAdaptedPerson.write(persons.get(i), generator);
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Returns the highest generation of the shard files in {@code shardDirectory}, so that new shard files never
+     * overwrite ones a manifest may still list.
+     */
+    private static long getLatestGeneration(Path shardDirectory) throws IOException {
+        long latestGeneration = 0;
+        for (String shardFile : listShardFiles(shardDirectory)) {
+            String generation = shardFile.substring(shardFile.lastIndexOf('-') + 1,
+                    shardFile.length() - SHARD_FILE_SUFFIX.length());
+            try {
+                latestGeneration = Math.max(latestGeneration, Long.parseLong(generation));
+            } catch (NumberFormatException e) {
+                // Not written by this storage, so it cannot clash with the generated names
+            }
+        }
+        return latestGeneration;
+    }
+
+    /**
+     * Deletes the shard files in {@code shardDirectory} that {@code manifest} does not list, such as those it
+     * replaced and those left by an interrupted save.
+     */
+    private static void deleteUnlistedShards(Path shardDirectory, ShardManifest manifest) {
+        try {
+            Set<String> listedFiles = new HashSet<>(manifest.getShardFiles());
+            for (String shardFile : listShardFiles(shardDirectory)) {
+                if (!listedFiles.contains(shardFile)) {
+                    Files.deleteIfExists(shardDirectory.resolve(shardFile));
+                }
+            }
+        } catch (IOException e) {
+            // The save is already committed, so the files are only left for the next save to delete
+            logger.warning("Could not delete old shards in " + shardDirectory + ": " + e);
+        }
+    }
+
+    private static List<String> listShardFiles(Path shardDirectory) throws IOException {
+        List<String> shardFiles = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory,
+                SHARD_FILE_PREFIX + "*" + SHARD_FILE_SUFFIX)) {
+            files.forEach(file -> shardFiles.add(file.getFileName().toString()));
+        }
+        return shardFiles;
+    }
+
+    /**
+     * A person read from a shard, with the order key that places it in the address book.
+     */
+    private static class OrderedPerson {
+        private final long orderKey;
+        private final Person person;
+
+        OrderedPerson(long orderKey, Person person) {
+            this.orderKey = orderKey;
+            this.person = person;
+        }
+    }
+
+    /**
+     * The content of a shard file: its persons, each with its order key.
+     */
+    private static class ShardFile {
+        private final List<Long> orderKeys = new ArrayList<>();
+        private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+        @JsonCreator
+        ShardFile(@JsonProperty("orderKeys") List<Long> orderKeys,
+                @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+            if (orderKeys != null) {
+                this.orderKeys.addAll(orderKeys);
+            }
+            if (persons != null) {
+                this.persons.addAll(persons);
+            }
+        }
+    }
+
+    /**
+     * Lists the shard files that make up the saved address book.
+     */
+    private static class ShardManifest {
+        private final int shardCount;
+        private final long generation;
+        private final List<String> shardFiles = new ArrayList<>();
+        private final String supersededDataFile;
+
+        @JsonCreator
+        ShardManifest(@JsonProperty("shardCount") int shardCount, @JsonProperty("generation") long generation,
+                @JsonProperty("shardFiles") List<String> shardFiles,
+                @JsonProperty("supersededDataFile") String supersededDataFile) {
+            this.shardCount = shardCount;
+            this.generation = generation;
+            if (shardFiles != null) {
+                this.shardFiles.addAll(shardFiles);
+            }
+            this.supersededDataFile = supersededDataFile;
+        }
+
+        int getShardCount() {
+            return shardCount;
+        }
+
+        List<String> getShardFiles() {
+            return shardFiles;
+        }
+
+        /**
+         * Returns the fingerprint of the data file these shards replaced, or null if there was none.
+         */
+        String getSupersededDataFile() {
+            return supersededDataFile;
+        }
+    }
+}
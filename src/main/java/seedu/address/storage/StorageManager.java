@@ -19,13 +19,24 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private AddressBookJournal journal;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}
+     * that keeps the address book data file up to date through {@code journal}, unless {@code journal} is null.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            AddressBookJournal journal) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.journal = journal;
     }
 
     // ================ UserPrefs methods ==============================
@@ -61,7 +72,12 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        if (!isJournalled(filePath)) {
+            return addressBook;
+        }
+        logger.fine("Replaying journal: " + journal.getFilePath());
+        return journal.replay(addressBook, filePath);
     }
 
     @Override
@@ -71,8 +87,20 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (isJournalled(filePath)) {
+            logger.fine("Attempting to write to journal: " + journal.getFilePath());
+            journal.save(addressBook, addressBookStorage);
+            return;
+        }
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    /**
+     * Returns true if reads and writes of the data file at {@code filePath} go through the journal.
+     */
+    private boolean isJournalled(Path filePath) {
+        return journal != null && filePath.equals(addressBookStorage.getAddressBookFilePath());
+    }
+
 }
@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address books to an {@code AddressBookStorage} on a background thread.
+ *
+ * Callers hand over immutable snapshots and return immediately. Only the latest snapshot waiting to be written
+ * is kept, so a burst of saves made while a write is in progress results in a single further write.
+ * Failures are passed to the error handler on the background thread, and the snapshot that failed is written
+ * again on {@link #close()} unless a later snapshot was written since.
+ */
+public class WriteBehindSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The latest snapshot not yet picked up for writing, if any. */
+    private final AtomicReference<ReadOnlyAddressBook> pending = new AtomicReference<>();
+
+    /** The snapshot whose write failed last, if no later snapshot was written since; used by the saver thread. */
+    private ReadOnlyAddressBook failed;
+
+    private volatile Consumer<IOException> errorHandler = e -> {};
+    private volatile Consumer<ReadOnlyAddressBook> successHandler = addressBook -> {};
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage}.
+     */
+    public WriteBehindSaver(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is called on the background thread whenever a write fails.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Sets the handler that is called on the background thread with each snapshot that was written.
+     */
+    public void setSuccessHandler(Consumer<ReadOnlyAddressBook> successHandler) {
+        requireNonNull(successHandler);
+        this.successHandler = successHandler;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be written, replacing any snapshot still waiting to be written.
+     * {@code addressBook} must not change afterwards.
+     */
+    public void save(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (pending.getAndSet(addressBook) == null) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Blocks until every snapshot scheduled so far has been written or has failed.
+     */
+    public void flush() {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    /**
+     * Writes out every scheduled snapshot, retries the last failed one if nothing later was written, and stops the
+     * background thread. Does nothing if already closed.
+     */
+    public void close() {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.execute(this::retryFailed);
+        flush();
+        executor.shutdown();
+    }
+
+    private void retryFailed() {
+        if (failed != null && pending.compareAndSet(null, failed)) {
+            writePending();
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook = pending.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background " + StringUtil.getDetails(e));
+            failed = addressBook;
+            errorHandler.accept(e);
+            return;
+        }
+        failed = null;
+        successHandler.accept(addressBook);
+    }
+}
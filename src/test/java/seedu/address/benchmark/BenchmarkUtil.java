@@ -0,0 +1,54 @@
+package seedu.address.benchmark;
+
+import java.util.function.LongSupplier;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Helpers shared by the benchmarks, which are run with {@code gradlew benchmark -Pbenchmark=<class name>}.
+ */
+public class BenchmarkUtil {
+
+    // Keeps the results of timed tasks live; a volatile write cannot be optimised away
+    private static volatile long sink;
+
+    /**
+     * Returns an address book of {@code size} distinct persons with every field filled in.
+     */
+    public static AddressBook generateAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < size; i++) {
+            addressBook.addPerson(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(80000000L + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withAddress("Blk " + i + ", Clementi Ave " + (i % 7))
+                    .withCompany("Company " + (i % 100))
+                    .withTags("friends", "tag" + (i % 10))
+                    .withNote("Met at event " + i)
+                    .withPriority(String.valueOf(i % 5 + 1))
+                    .build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Runs {@code task} {@code warmUpRuns} times untimed and then {@code timedRuns} times, and returns the mean
+     * time of a timed run in milliseconds. {@code task} returns a value that is stored in {@link #sink} so the work
+     * is not optimised away.
+     */
+    public static double timeMillis(int warmUpRuns, int timedRuns, LongSupplier task) {
+        long total = 0;
+        for (int i = 0; i < warmUpRuns; i++) {
+            total += task.getAsLong();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < timedRuns; i++) {
+            total += task.getAsLong();
+        }
+        long elapsed = System.nanoTime() - start;
+        sink = total;
+        return elapsed / 1e6 / timedRuns;
+    }
+}
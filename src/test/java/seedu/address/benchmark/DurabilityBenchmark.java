@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures the cost of writing the address book data file under each {@link DurabilityPolicy}, against a plain
+ * overwrite of the data file that is not crash-safe, and the cost of a full save including serialization.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=DurabilityBenchmark [-PbenchmarkArgs="<persons> <runs>"]}
+ */
+public class DurabilityBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 1_000;
+    private static final int DEFAULT_RUN_COUNT = 50;
+
+    /**
+     * Runs the benchmark and prints the mean time of a write for each durability policy.
+     */
+    public static void main(String[] args) throws IOException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int runCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUN_COUNT;
+        AddressBook addressBook = BenchmarkUtil.generateAddressBook(personCount);
+        Path directory = Files.createTempDirectory("durability-benchmark");
+        Path filePath = directory.resolve("addressbook.json");
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        String json = FileUtil.readFromFile(filePath);
+        int warmUpRuns = runCount / 5;
+
+        System.out.printf("Writing %d persons (%d chars), mean of %d runs%n", personCount, json.length(), runCount);
+        double overwriteMillis = BenchmarkUtil.timeMillis(warmUpRuns, runCount, () -> {
+            try {
+                FileUtil.writeToFile(filePath, json);
+                return 1;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        System.out.printf("%-28s %10.3f ms%n", "overwrite in place", overwriteMillis);
+
+        for (DurabilityPolicy policy : DurabilityPolicy.values()) {
+            double millis = BenchmarkUtil.timeMillis(warmUpRuns, runCount, () -> {
+                try {
+                    FileUtil.writeToFileAtomically(filePath, json, policy);
+                    return 1;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            System.out.printf("%-28s %10.3f ms%n", "atomic, " + policy, millis);
+        }
+
+        double saveMillis = BenchmarkUtil.timeMillis(warmUpRuns, runCount, () -> {
+            try {
+                new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+                return 1;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        System.out.printf("%-28s %10.3f ms%n", "full save, default", saveMillis);
+
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(directory);
+    }
+}
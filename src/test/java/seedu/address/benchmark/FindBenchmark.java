@@ -0,0 +1,71 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures the time taken by {@code find} searches of the filtered person list, with and without the trigram
+ * index of the address book. The index is built in the background from when the model is created, so the first
+ * search is usually a scan.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=FindBenchmark [-PbenchmarkArgs="<persons> <runs>"]}
+ */
+public class FindBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 1_000_000;
+    private static final int DEFAULT_RUN_COUNT = 5;
+    private static final List<List<String>> SEARCHES = List.of(
+            List.of("Person 123456"),
+            List.of("alice", "bob", "charlie"),
+            List.of("person98765@example", "Clementi Ave 9"),
+            List.of("Company 42"),
+            List.of("friends"));
+
+    /**
+     * Runs the benchmark and prints the mean time and number of matches of each search.
+     */
+    public static void main(String[] args) {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int runCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUN_COUNT;
+        ModelManager model = new ModelManager(BenchmarkUtil.generateAddressBook(personCount), new UserPrefs());
+        AddressBook addressBook = (AddressBook) model.getAddressBook();
+
+        long start = System.nanoTime();
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("first search")));
+        double firstSearchMillis = (System.nanoTime() - start) / 1e6;
+        addressBook.getSearchIndex();
+        double buildMillis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("%d persons, first search %.3f ms, index ready after %.3f ms%n", personCount,
+                firstSearchMillis, buildMillis);
+        double floorMillis = BenchmarkUtil.timeMillis(1, runCount, () -> {
+            model.updateFilteredPersonList(person -> person != null && personCount < 0);
+            return model.getFilteredPersonList().size();
+        });
+        System.out.printf("Filtering with a predicate that only returns false %.3f ms%n", floorMillis);
+        System.out.printf("Mean of %d runs%n", runCount);
+        System.out.printf("%-40s %10s %12s %12s%n", "keywords", "matches", "scan (ms)", "index (ms)");
+        for (List<String> keywords : SEARCHES) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            double scanMillis = BenchmarkUtil.timeMillis(1, runCount, () -> {
+                // Hiding the type of the predicate keeps the model from narrowing it with the index. A new
+                // predicate is needed on every run, as the filtered list ignores a predicate it already has.
+                Predicate<Person> scanned = person -> predicate.test(person);
+                model.updateFilteredPersonList(scanned);
+                return model.getFilteredPersonList().size();
+            });
+            double indexMillis = BenchmarkUtil.timeMillis(1, runCount, () -> {
+                model.updateFilteredPersonList(new NameContainsKeywordsPredicate(keywords));
+                return model.getFilteredPersonList().size();
+            });
+            System.out.printf("%-40s %10d %12.3f %12.3f%n", Arrays.toString(keywords.toArray()),
+                    model.getFilteredPersonList().size(), scanMillis, indexMillis);
+        }
+    }
+}
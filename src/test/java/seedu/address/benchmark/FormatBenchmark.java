@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares the file size and the save and load times of the JSON, compressed JSON, compact JSON and binary data
+ * file formats.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=FormatBenchmark [-PbenchmarkArgs="<persons> <runs>"]}
+ */
+public class FormatBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100_000;
+    private static final int DEFAULT_RUN_COUNT = 5;
+
+    /**
+     * Runs the benchmark and prints the file size and mean save and load times of each format.
+     */
+    public static void main(String[] args) throws IOException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int runCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUN_COUNT;
+        AddressBook addressBook = BenchmarkUtil.generateAddressBook(personCount);
+        Path directory = Files.createTempDirectory("format-benchmark");
+
+        System.out.printf("%d persons, mean of %d runs%n", personCount, runCount);
+        System.out.printf("%-8s %14s %12s %12s%n", "format", "size (bytes)", "save (ms)", "load (ms)");
+        AddressBookStorage[] storages = {
+            new JsonAddressBookStorage(directory.resolve("addressbook.json")),
+            new JsonAddressBookStorage(directory.resolve("addressbook.json.gz"),
+                    new StorageSettings().withCompressionEnabled(true)),
+            new JsonAddressBookStorage(directory.resolve("addressbook.compact.json"),
+                    new StorageSettings().withCompactJsonEnabled(true)),
+            new BinaryAddressBookStorage(directory.resolve("addressbook.bin"))
+        };
+        String[] names = {"json", "json.gz", "compact", "binary"};
+        for (int i = 0; i < storages.length; i++) {
+            AddressBookStorage storage = storages[i];
+            double saveMillis = BenchmarkUtil.timeMillis(1, runCount, () -> {
+                try {
+                    storage.saveAddressBook(addressBook);
+                    return 1;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            double loadMillis = BenchmarkUtil.timeMillis(1, runCount, () -> {
+                try {
+                    return storage.readAddressBook().get().getPersonList().size();
+                } catch (DataLoadingException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            Path filePath = storage.getAddressBookFilePath();
+            System.out.printf("%-8s %14d %12.3f %12.3f%n", names[i], Files.size(filePath), saveMillis, loadMillis);
+            Files.delete(filePath);
+        }
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.AhoCorasickMatcher;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares the time taken to test every person against growing lists of keywords, like a pasted list of company
+ * names, by searching each field for each keyword in turn and by scanning each field once with an
+ * {@link AhoCorasickMatcher}. {@code NameContainsKeywordsPredicate} picks between the two by the number of keywords.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=KeywordMatcherBenchmark [-PbenchmarkArgs="<persons> <runs>"]}
+ */
+public class KeywordMatcherBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100_000;
+    private static final int DEFAULT_RUN_COUNT = 10;
+    private static final int[] KEYWORD_COUNTS = {1, 2, 3, 4, 6, 8, 12, 20, 35, 50};
+    private static final String[] KEYWORDS = {"company 42", "acme", "globex", "initech", "umbrella", "hooli",
+        "stark", "wayne", "wonka", "cyberdyne", "tyrell", "soylent", "oscorp", "aperture", "vandelay", "dunder",
+        "mifflin", "gringotts", "monarch", "nakatomi", "prestige", "sterling", "cooper", "massive", "dynamic",
+        "virtucon", "gekko", "buynlarge", "octan", "bluth", "kramerica", "weyland", "yutani", "tricell", "zorg",
+        "ollivander", "krusty", "duff", "momcorp", "planet", "express", "pied", "piper", "raviga", "bachman",
+        "endframe", "nucleus", "tesseract", "omnicorp", "rekall"};
+
+    /**
+     * Runs the benchmark and prints the mean time of each way of matching for each number of keywords.
+     */
+    public static void main(String[] args) {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int runCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUN_COUNT;
+        List<Person> persons = new ArrayList<>(BenchmarkUtil.generateAddressBook(personCount).getPersonList());
+        // Computes the search keys of every person before timing
+        persons.forEach(Person::getSearchKeys);
+
+        System.out.printf("%d persons, mean of %d runs%n", personCount, runCount);
+        System.out.printf("%10s %10s %18s %16s %16s%n", "keywords", "matches", "per keyword (ms)", "automaton (ms)",
+                "predicate (ms)");
+        for (int keywordCount : KEYWORD_COUNTS) {
+            List<String> keywords = List.of(KEYWORDS).subList(0, keywordCount);
+            AhoCorasickMatcher matcher = new AhoCorasickMatcher(keywords);
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            double perKeywordMillis = BenchmarkUtil.timeMillis(1, runCount, () -> persons.stream()
+                    .filter(person -> containsAnyPerKeyword(person.getSearchKeys(), keywords)).count());
+            double automatonMillis = BenchmarkUtil.timeMillis(1, runCount, () -> persons.stream()
+                    .filter(person -> person.getSearchKeys().stream().anyMatch(matcher::containsAny)).count());
+            double predicateMillis = BenchmarkUtil.timeMillis(1, runCount, () -> persons.stream()
+                    .filter(predicate).count());
+            System.out.printf("%10d %10d %18.3f %16.3f %16.3f%n", keywordCount,
+                    persons.stream().filter(predicate).count(), perKeywordMillis, automatonMillis, predicateMillis);
+        }
+    }
+
+    private static boolean containsAnyPerKeyword(List<String> texts, List<String> keywords) {
+        for (String keyword : keywords) {
+            for (String text : texts) {
+                if (text.contains(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures the time to load the JSON data file with and without parallel loading.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=LoadBenchmark [-PbenchmarkArgs="<persons> <runs>"]}
+ */
+public class LoadBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100_000;
+    private static final int DEFAULT_RUN_COUNT = 10;
+
+    /**
+     * Runs the benchmark and prints the mean time of a load in each mode.
+     */
+    public static void main(String[] args) throws IOException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int runCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUN_COUNT;
+        Path directory = Files.createTempDirectory("load-benchmark");
+        Path filePath = directory.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(BenchmarkUtil.generateAddressBook(personCount));
+
+        System.out.printf("Loading %d persons on %d cores, mean of %d runs%n", personCount,
+                Runtime.getRuntime().availableProcessors(), runCount);
+        for (boolean isParallel : new boolean[] {false, true}) {
+            JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath,
+                    new StorageSettings().withParallelLoadEnabled(isParallel));
+            double millis = BenchmarkUtil.timeMillis(Math.max(1, runCount / 5), runCount, () -> {
+                try {
+                    return storage.readAddressBook().get().getPersonList().size();
+                } catch (DataLoadingException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            System.out.printf("%-12s %10.3f ms%n", isParallel ? "parallel" : "sequential", millis);
+        }
+
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(directory);
+    }
+}
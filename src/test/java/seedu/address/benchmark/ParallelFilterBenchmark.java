@@ -0,0 +1,66 @@
+package seedu.address.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.commons.util.ParallelFilteredList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares the time taken to filter the person list with JavaFX's {@code FilteredList} with that taken by a
+ * {@code ParallelFilteredList} testing the persons on the calling thread and on the common fork-join pool. The
+ * speedup of the parallel view depends on the number of processors, which is printed first.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=ParallelFilterBenchmark [-PbenchmarkArgs="<persons> <runs>"]}
+ */
+public class ParallelFilterBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 1_000_000;
+    private static final int DEFAULT_RUN_COUNT = 5;
+
+    /**
+     * Runs the benchmark and prints the mean time of each view for each filter.
+     */
+    public static void main(String[] args) {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int runCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUN_COUNT;
+        ObservableList<Person> persons = BenchmarkUtil.generateAddressBook(personCount).getPersonList();
+        Map<String, Predicate<Person>> filters = new LinkedHashMap<>();
+        filters.put("list t/tag3", person -> person.getTags().stream().anyMatch(tag -> tag.tagName.equals("tag3")));
+        filters.put("find company 42", new NameContainsKeywordsPredicate(List.of("company 42")));
+        filters.put("find with 20 keywords", new NameContainsKeywordsPredicate(List.of("acme", "globex", "initech",
+                "umbrella", "hooli", "stark", "wayne", "wonka", "cyberdyne", "tyrell", "soylent", "oscorp",
+                "aperture", "vandelay", "dunder", "mifflin", "gringotts", "monarch", "nakatomi", "company 42")));
+
+        FilteredList<Person> filteredList = new FilteredList<>(persons);
+        ParallelFilteredList<Person> sequential = new ParallelFilteredList<>(persons, Integer.MAX_VALUE);
+        ParallelFilteredList<Person> parallel = new ParallelFilteredList<>(persons, 1);
+        System.out.printf("%d persons, %d processors, mean of %d runs%n", personCount,
+                Runtime.getRuntime().availableProcessors(), runCount);
+        System.out.printf("%-24s %10s %18s %16s %16s%n", "filter", "matches", "FilteredList (ms)", "sequential (ms)",
+                "parallel (ms)");
+        for (Map.Entry<String, Predicate<Person>> filter : filters.entrySet()) {
+            Predicate<Person> predicate = filter.getValue();
+            // A new predicate is needed on every run, as both views ignore a predicate they already have
+            double filteredListMillis = BenchmarkUtil.timeMillis(1, runCount, () -> {
+                filteredList.setPredicate(person -> predicate.test(person));
+                return filteredList.size();
+            });
+            double sequentialMillis = BenchmarkUtil.timeMillis(1, runCount, () -> {
+                sequential.setPredicate(person -> predicate.test(person));
+                return sequential.size();
+            });
+            double parallelMillis = BenchmarkUtil.timeMillis(1, runCount, () -> {
+                parallel.setPredicate(person -> predicate.test(person));
+                return parallel.size();
+            });
+            System.out.printf("%-24s %10d %18.3f %16.3f %16.3f%n", filter.getKey(), parallel.size(),
+                    filteredListMillis, sequentialMillis, parallelMillis);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.RecordFileAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures the time taken by a save of the record file after a single edit and after a sort, compared with a
+ * save of the whole address book as a record file and as JSON.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=RecordFileBenchmark [-PbenchmarkArgs="<persons>"]}
+ */
+public class RecordFileBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 500_000;
+    private static final int EDIT_COUNT = 20;
+
+    /**
+     * Runs the benchmark and prints the time of each kind of save.
+     */
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        Path directory = Files.createTempDirectory("record-file-benchmark");
+        Path filePath = directory.resolve("addressbook.json");
+        AddressBook generated = BenchmarkUtil.generateAddressBook(personCount);
+
+        System.out.printf("Saving %d persons%n", personCount);
+        long start = System.nanoTime();
+        new JsonAddressBookStorage(filePath).saveAddressBook(generated);
+        System.out.printf("%-28s %10.3f ms%n", "JSON, whole address book", (System.nanoTime() - start) / 1e6);
+
+        RecordFileAddressBookStorage storage = new RecordFileAddressBookStorage(filePath,
+                new StorageSettings().withDataFileFormat(DataFileFormat.RECORD_FILE));
+        start = System.nanoTime();
+        storage.saveAddressBook(generated);
+        System.out.printf("%-28s %10.3f ms%n", "record file, afresh", (System.nanoTime() - start) / 1e6);
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.track(addressBook);
+        long editNanos = 0;
+        for (int i = 0; i < EDIT_COUNT; i++) {
+            Person target = addressBook.getPersonList().get(i * (personCount / EDIT_COUNT));
+            addressBook.setPerson(target, new PersonBuilder(target).withNote("Edited note " + i).build());
+            start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            editNanos += System.nanoTime() - start;
+        }
+        System.out.printf("%-28s %10.3f ms%n", "record file, one edit", editNanos / 1e6 / EDIT_COUNT);
+
+        addressBook.sortPersons((first, second) -> second.getName().fullName.compareTo(first.getName().fullName));
+        start = System.nanoTime();
+        storage.saveAddressBook(addressBook);
+        System.out.printf("%-28s %10.3f ms%n", "record file, after a sort", (System.nanoTime() - start) / 1e6);
+
+        FileUtil.deleteDirectory(directory);
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.address.commons.util.SearchUtil;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Compares the bytes allocated and the time taken by a {@code find} search of every person when matching against
+ * the cached search keys of persons with those of the matching done before the keys were cached, which lower-cased
+ * every field for every keyword. The first search with the cached keys includes computing them.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=SearchAllocationBenchmark [-PbenchmarkArgs="<persons> <runs>"]}
+ */
+public class SearchAllocationBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 100_000;
+    private static final int DEFAULT_RUN_COUNT = 10;
+    private static final List<String> KEYWORDS = List.of("alice", " Clementi Ave 9", "Company 42", "zzz");
+
+    /**
+     * Runs the benchmark and prints the mean bytes allocated, time taken and number of matches of each search.
+     */
+    public static void main(String[] args) {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int runCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUN_COUNT;
+        List<Person> persons = BenchmarkUtil.generateAddressBook(personCount).getPersonList();
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(KEYWORDS);
+
+        System.out.printf("%d persons, keywords %s%n", personCount, KEYWORDS);
+        System.out.printf("%-30s %8s %16s %16s %12s%n", "matching", "matches", "bytes / search", "bytes / person",
+                "time (ms)");
+        printSearch("cached keys (first search)", persons, predicate, 1);
+        printSearch("lower-casing every field", persons, SearchAllocationBenchmark::matchesLowerCasingEveryField,
+                runCount);
+        printSearch("cached keys", persons, predicate, runCount);
+    }
+
+    /**
+     * Searches {@code persons} with {@code predicate} {@code runCount} times and prints the means of the search.
+     */
+    private static void printSearch(String name, List<Person> persons, Predicate<Person> predicate, int runCount) {
+        ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        int matchCount = 0;
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int run = 0; run < runCount; run++) {
+            matchCount = 0;
+            for (Person person : persons) {
+                if (predicate.test(person)) {
+                    matchCount++;
+                }
+            }
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / runCount;
+        double bytes = (double) (threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / runCount;
+        System.out.printf("%-30s %8d %16.0f %16.1f %12.3f%n", name, matchCount, bytes, bytes / persons.size(),
+                millis);
+    }
+
+    /**
+     * Returns true if {@code person} matches the keywords as {@code NameContainsKeywordsPredicate} matched them
+     * before the search keys of persons were cached.
+     */
+    private static boolean matchesLowerCasingEveryField(Person person) {
+        return KEYWORDS.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .anyMatch(keyword -> matchesAnyField(person, keyword));
+    }
+
+    private static boolean matchesAnyField(Person person, String keyword) {
+        if (SearchUtil.containsSubstringIgnoreCase(person.getName().fullName, keyword)
+                || SearchUtil.containsSubstringIgnoreCase(person.getPhone().value, keyword)
+                || person.getEmail() != null && SearchUtil.containsSubstringIgnoreCase(person.getEmail().value, keyword)
+                || person.getAddress() != null
+                        && SearchUtil.containsSubstringIgnoreCase(person.getAddress().value, keyword)
+                || person.getPriority() != null
+                        && SearchUtil.containsSubstringIgnoreCase(person.getPriority().toString(), keyword)
+                || person.getTags().stream()
+                        .anyMatch(tag -> SearchUtil.containsSubstringIgnoreCase(tag.tagName, keyword))) {
+            return true;
+        }
+        // The company was looked up by reflection
+        try {
+            Object company = person.getClass().getMethod("getCompany").invoke(person);
+            if (company == null) {
+                return false;
+            }
+            String companyString = (String) company.getClass().getMethod("toString").invoke(company);
+            return companyString != null && SearchUtil.containsSubstringIgnoreCase(companyString, keyword);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return false;
+        }
+    }
+}
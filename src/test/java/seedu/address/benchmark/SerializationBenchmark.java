@@ -0,0 +1,131 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares the time taken to read and write the persons of a JSON data file through the hand-written serializer
+ * and deserializer of {@code JsonAdaptedPerson} and {@code JsonAdaptedTag} with the time taken by Jackson's
+ * reflective binding of their fields and creators, which is restored with mix-ins.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=SerializationBenchmark [-PbenchmarkArgs="<runs> <persons>..."]}
+ */
+public class SerializationBenchmark {
+
+    private static final int DEFAULT_RUN_COUNT = 3;
+    private static final int[] DEFAULT_PERSON_COUNTS = {10_000, 100_000, 1_000_000};
+
+    /**
+     * Runs the benchmark and prints the mean read and write times of each path for each number of persons.
+     */
+    public static void main(String[] args) throws Exception {
+        int runCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUN_COUNT;
+        int[] personCounts = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray()
+                : DEFAULT_PERSON_COUNTS;
+        // The adapted classes are package-private to the storage package
+        Class<?> addressBookType = Class.forName("seedu.address.storage.JsonSerializableAddressBook");
+        ObjectMapper handWritten = createMapper();
+        ObjectMapper reflective = createMapper()
+                .addMixIn(Class.forName("seedu.address.storage.JsonAdaptedPerson"), ReflectivePerson.class)
+                .addMixIn(Class.forName("seedu.address.storage.JsonAdaptedTag"), ReflectiveTag.class);
+
+        System.out.printf("Mean of %d runs%n", runCount);
+        System.out.printf("%10s %-12s %12s %12s%n", "persons", "path", "read (ms)", "write (ms)");
+        for (int personCount : personCounts) {
+            byte[] json = generateJson(personCount);
+            byte[] expected = null;
+            for (ObjectMapper mapper : List.of(reflective, handWritten)) {
+                Object addressBook = mapper.readValue(json, addressBookType);
+                double readMillis = BenchmarkUtil.timeMillis(1, runCount, () -> {
+                    try {
+                        return mapper.readValue(json, addressBookType).hashCode();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                double writeMillis = BenchmarkUtil.timeMillis(1, runCount, () -> {
+                    try {
+                        return mapper.writeValueAsBytes(addressBook).length;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                byte[] written = mapper.writeValueAsBytes(addressBook);
+                if (expected != null && !Arrays.equals(expected, written)) {
+                    throw new IllegalStateException("The two paths write different JSON");
+                }
+                expected = written;
+                System.out.printf("%10d %-12s %12.3f %12.3f%n", personCount,
+                        mapper == reflective ? "reflective" : "hand-written", readMillis, writeMillis);
+            }
+        }
+    }
+
+    /**
+     * Returns a mapper configured as the one in {@code JsonUtil}.
+     */
+    private static ObjectMapper createMapper() {
+        return new ObjectMapper().findAndRegisterModules()
+                .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+    }
+
+    private static byte[] generateJson(int personCount) throws IOException {
+        Path filePath = Files.createTempFile("serialization-benchmark", ".json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(BenchmarkUtil.generateAddressBook(personCount));
+        byte[] json = Files.readAllBytes(filePath);
+        Files.delete(filePath);
+        return json;
+    }
+
+    /**
+     * The annotations through which Jackson bound {@code JsonAdaptedPerson} by reflection.
+     */
+    @JsonSerialize(using = JsonSerializer.None.class)
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    private abstract static class ReflectivePerson {
+        @JsonCreator
+        ReflectivePerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+                @JsonProperty("email") String email, @JsonProperty("address") String address,
+                @JsonProperty("company") String company, @JsonProperty("tags") List<?> tags,
+                @JsonProperty("note") String note, @JsonProperty("noteLastEdited") String noteLastEdited,
+                @JsonProperty("priority") String priority) {
+        }
+    }
+
+    /**
+     * The annotations through which Jackson bound {@code JsonAdaptedTag} by reflection.
+     */
+    @JsonSerialize(using = JsonSerializer.None.class)
+    @JsonDeserialize(using = JsonDeserializer.None.class)
+    private abstract static class ReflectiveTag {
+        @JsonCreator
+        ReflectiveTag(String tagName) {
+        }
+
+        @JsonValue
+        abstract String getTagName();
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures the time taken and bytes written by a save of the sharded data file after a single edit, compared with
+ * a save of the whole address book, for a range of shard count settings. The storage raises the setting for large
+ * address books, so the number of shards actually written is reported alongside.
+ *
+ * Usage: {@code gradlew benchmark -Pbenchmark=ShardBenchmark [-PbenchmarkArgs="<persons> <shard counts...>"]}
+ */
+public class ShardBenchmark {
+
+    private static final int DEFAULT_PERSON_COUNT = 500_000;
+    private static final int[] DEFAULT_SHARD_COUNTS = {16, 256, 4096};
+    private static final int EDIT_COUNT = 20;
+
+    /**
+     * Runs the benchmark and prints, for each shard count, the cost of a full save and the mean cost of a save
+     * after editing one person.
+     */
+    public static void main(String[] args) throws IOException, DataLoadingException {
+        int personCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PERSON_COUNT;
+        int[] shardCounts = DEFAULT_SHARD_COUNTS;
+        if (args.length > 1) {
+            shardCounts = Stream.of(args).skip(1).mapToInt(Integer::parseInt).toArray();
+        }
+        AddressBook generated = BenchmarkUtil.generateAddressBook(personCount);
+
+        System.out.printf("Saving %d persons, mean of %d single edits%n", personCount, EDIT_COUNT);
+        System.out.printf("%8s %8s %14s %14s %14s %14s%n", "setting", "shards", "full ms", "full bytes", "edit ms",
+                "edit bytes");
+        for (int shardCount : shardCounts) {
+            Path directory = Files.createTempDirectory("shard-benchmark");
+            Path filePath = directory.resolve("addressbook.json");
+            Path shardDirectory = ShardedAddressBookStorage.getShardDirectoryPath(filePath);
+            ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, new StorageSettings()
+                    .withDataFileFormat(DataFileFormat.SHARDED).withShardCount(shardCount));
+
+            long start = System.nanoTime();
+            storage.saveAddressBook(generated);
+            double fullMillis = (System.nanoTime() - start) / 1e6;
+            long fullBytes = sizeOf(shardDirectory, new HashSet<>());
+            long writtenShardCount = listFiles(shardDirectory).stream()
+                    .filter(name -> name.startsWith("shard-")).count();
+
+            AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+            storage.track(addressBook);
+            long editNanos = 0;
+            long editBytes = 0;
+            for (int i = 0; i < EDIT_COUNT; i++) {
+                Person target = addressBook.getPersonList().get(i * (personCount / EDIT_COUNT));
+                addressBook.setPerson(target, new PersonBuilder(target).withAddress("Edited street " + i).build());
+                Set<String> filesBefore = listFiles(shardDirectory);
+                start = System.nanoTime();
+                storage.saveAddressBook(addressBook);
+                editNanos += System.nanoTime() - start;
+                editBytes += sizeOf(shardDirectory, filesBefore);
+            }
+
+            System.out.printf("%8d %8d %14.3f %14d %14.3f %14d%n", shardCount, writtenShardCount, fullMillis,
+                    fullBytes, editNanos / 1e6 / EDIT_COUNT, editBytes / EDIT_COUNT);
+            deleteRecursively(directory);
+        }
+    }
+
+    /**
+     * Returns the total size of the files in {@code directory} other than those named in {@code excluded}.
+     * The manifest is rewritten by every save, so it is always counted.
+     */
+    private static long sizeOf(Path directory, Set<String> excluded) throws IOException {
+        long size = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (!excluded.contains(name) || name.equals("manifest.json")) {
+                    size += Files.size(file);
+                }
+            }
+        }
+        return size;
+    }
+
+    private static Set<String> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+}
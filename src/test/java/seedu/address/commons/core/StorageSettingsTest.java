@@ -0,0 +1,82 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class StorageSettingsTest {
+
+    @Test
+    public void withDurabilityPolicy() {
+        StorageSettings defaults = new StorageSettings();
+        assertEquals(StorageSettings.DEFAULT_DURABILITY_POLICY, defaults.getDurabilityPolicy());
+
+        StorageSettings changed = defaults.withDurabilityPolicy(DurabilityPolicy.NONE);
+        assertEquals(DurabilityPolicy.NONE, changed.getDurabilityPolicy());
+        assertEquals(defaults.isJournalEnabled(), changed.isJournalEnabled());
+        assertNotEquals(defaults, changed);
+        assertEquals(defaults, changed.withDurabilityPolicy(StorageSettings.DEFAULT_DURABILITY_POLICY));
+
+        assertThrows(NullPointerException.class, () -> defaults.withDurabilityPolicy(null));
+    }
+
+    @Test
+    public void withParallelLoadEnabled() {
+        StorageSettings defaults = new StorageSettings();
+        StorageSettings changed = defaults.withParallelLoadEnabled(true);
+        assertEquals(true, changed.isParallelLoadEnabled());
+        assertEquals(defaults.getDurabilityPolicy(), changed.getDurabilityPolicy());
+        assertNotEquals(defaults, changed);
+        assertEquals(defaults, changed.withParallelLoadEnabled(false));
+    }
+
+    @Test
+    public void withDataFileFormat() {
+        StorageSettings defaults = new StorageSettings();
+        assertEquals(DataFileFormat.JSON, defaults.getDataFileFormat());
+        StorageSettings changed = defaults.withDataFileFormat(DataFileFormat.BINARY);
+        assertEquals(DataFileFormat.BINARY, changed.getDataFileFormat());
+        assertNotEquals(defaults, changed);
+        assertThrows(NullPointerException.class, () -> defaults.withDataFileFormat(null));
+    }
+
+    @Test
+    public void withCompressionEnabled() {
+        StorageSettings defaults = new StorageSettings();
+        StorageSettings changed = defaults.withCompressionEnabled(true);
+        assertEquals(true, changed.isCompressionEnabled());
+        assertNotEquals(defaults, changed);
+        assertEquals(defaults, changed.withCompressionEnabled(false));
+    }
+
+    @Test
+    public void withShardCount() {
+        StorageSettings defaults = new StorageSettings();
+        assertEquals(StorageSettings.DEFAULT_SHARD_COUNT, defaults.getShardCount());
+        StorageSettings changed = defaults.withShardCount(4);
+        assertEquals(4, changed.getShardCount());
+        assertNotEquals(defaults, changed);
+        assertEquals(defaults, changed.withShardCount(StorageSettings.DEFAULT_SHARD_COUNT));
+    }
+
+    @Test
+    public void withCompactJsonEnabled() {
+        StorageSettings defaults = new StorageSettings();
+        StorageSettings changed = defaults.withCompactJsonEnabled(true);
+        assertEquals(true, changed.isCompactJsonEnabled());
+        assertNotEquals(defaults, changed);
+        assertEquals(defaults, changed.withCompactJsonEnabled(false));
+    }
+
+    @Test
+    public void withShardCount_notPositive_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StorageSettings().withShardCount(0));
+    }
+
+    @Test
+    public void withJournalCompactionThreshold_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new StorageSettings().withJournalCompactionThreshold(-1));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class AhoCorasickMatcherTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AhoCorasickMatcher(null));
+    }
+
+    @Test
+    public void constructor_emptyKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AhoCorasickMatcher(List.of("alice", "")));
+    }
+
+    @Test
+    public void containsAny_overlappingKeywords() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("he", "she", "his", "hers"));
+
+        // Keywords found through the suffix of a partial match
+        assertTrue(matcher.containsAny("ushers"));
+        assertTrue(matcher.containsAny("this"));
+        assertTrue(matcher.containsAny("ahe"));
+
+        assertFalse(matcher.containsAny("hi"));
+        assertFalse(matcher.containsAny("s h e"));
+        assertFalse(matcher.containsAny(""));
+    }
+
+    @Test
+    public void containsAny_keywordInsideAnother() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("abcde", "bc"));
+        assertTrue(matcher.containsAny("xabcy"));
+        assertFalse(matcher.containsAny("abdce"));
+    }
+
+    @Test
+    public void containsAny_charactersOutsideKeywords_startAgain() {
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(List.of("café", "日本"));
+        assertTrue(matcher.containsAny("le café noir"));
+        assertTrue(matcher.containsAny("ni日本go"));
+        assertFalse(matcher.containsAny("cafè"));
+        assertFalse(matcher.containsAny("cafe"));
+        assertFalse(matcher.containsAny("日x本"));
+    }
+
+    @Test
+    public void containsAny_noKeywords_returnsFalse() {
+        assertFalse(new AhoCorasickMatcher(List.of()).containsAny("anything"));
+    }
+
+    @Test
+    public void containsAny_randomKeywords_sameAsContains() {
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            List<String> keywords = new ArrayList<>();
+            int keywordCount = 1 + random.nextInt(8);
+            for (int j = 0; j < keywordCount; j++) {
+                keywords.add(randomText(random, 1 + random.nextInt(4)));
+            }
+            AhoCorasickMatcher matcher = new AhoCorasickMatcher(keywords);
+            String text = randomText(random, random.nextInt(20));
+            assertEquals(keywords.stream().anyMatch(text::contains), matcher.containsAny(text),
+                    keywords + " in " + text);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append("abcé".charAt(random.nextInt(4)));
+        }
+        return text.toString();
+    }
+}
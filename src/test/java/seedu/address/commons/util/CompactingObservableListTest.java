@@ -0,0 +1,128 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.transformation.FilteredList;
+
+public class CompactingObservableListTest {
+
+    private final CompactingObservableList<String> list = new CompactingObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list.setAll(Arrays.asList("a", "b", "c", "d", "e", "f"));
+        list.addListener((ListChangeListener<String>) change -> {
+            StringBuilder description = new StringBuilder();
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    description.append("permutated ").append(change.getFrom()).append('-').append(change.getTo());
+                } else if (change.wasAdded() && !change.wasRemoved()) {
+                    description.append("added ").append(change.getAddedSubList())
+                            .append(" at ").append(change.getFrom()).append(';');
+                } else {
+                    description.append("removed ").append(change.getRemoved())
+                            .append(" at ").append(change.getFrom()).append(';');
+                }
+            }
+            changes.add(description.toString());
+        });
+    }
+
+    @Test
+    public void removeAt_scatteredPositions_removesInSingleChange() {
+        list.removeAt(positions(0, 2, 3, 5));
+        assertEquals(Arrays.asList("b", "e"), list);
+        assertEquals(Arrays.asList("removed [a] at 0;removed [c, d] at 1;removed [f] at 2;"), changes);
+    }
+
+    @Test
+    public void removeAt_noPositions_noChange() {
+        list.removeAt(new BitSet());
+        assertEquals(6, list.size());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void removeAt_positionOutOfRange_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(positions(1, 6)));
+        assertEquals(6, list.size());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void removeAt_filteredView_staysInStep() {
+        FilteredList<String> filtered = new FilteredList<>(list, element -> !element.equals("b"));
+        list.removeAt(positions(1, 2, 4));
+        assertEquals(Arrays.asList("a", "d", "f"), filtered);
+    }
+
+    @Test
+    public void insertAt_scatteredPositions_insertsInSingleChange() {
+        list.insertAt(new int[] {0, 3, 4, 8}, Arrays.asList("w", "x", "y", "z"));
+        assertEquals(Arrays.asList("w", "a", "b", "x", "y", "c", "d", "e", "z", "f"), list);
+        assertEquals(Arrays.asList("added [w] at 0;added [x, y] at 3;added [z] at 8;"), changes);
+    }
+
+    @Test
+    public void insertAt_undoesRemoveAt() {
+        FilteredList<String> filtered = new FilteredList<>(list, element -> !element.equals("b"));
+        list.removeAt(positions(0, 2, 3, 5));
+        list.insertAt(new int[] {0, 2, 3, 5}, Arrays.asList("a", "c", "d", "f"));
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e", "f"), list);
+        assertEquals(Arrays.asList("a", "c", "d", "e", "f"), filtered);
+    }
+
+    @Test
+    public void insertAt_positionOutOfRange_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insertAt(new int[] {1, 8}, Arrays.asList("x", "y")));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insertAt(new int[] {2, 1}, Arrays.asList("x", "y")));
+        assertEquals(6, list.size());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void clear_removesInSingleChange() {
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(Arrays.asList("removed [a, b, c, d, e, f] at 0;"), changes);
+    }
+
+    @Test
+    public void sort_reportsPermutation() {
+        FilteredList<String> filtered = new FilteredList<>(list, element -> !element.equals("b"));
+        list.sort(Comparator.reverseOrder());
+        assertEquals(Arrays.asList("f", "e", "d", "c", "b", "a"), list);
+        assertEquals(Arrays.asList("f", "e", "d", "c", "a"), filtered);
+        assertEquals(Arrays.asList("permutated 0-6"), changes);
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        list.setAll(Arrays.asList("x", "y"));
+        assertEquals(Arrays.asList("x", "y"), list);
+        assertEquals(1, changes.size());
+        assertFalse(list.contains("a"));
+    }
+
+    private static BitSet positions(int... indices) {
+        BitSet positions = new BitSet();
+        for (int index : indices) {
+            positions.set(index);
+        }
+        return positions;
+    }
+}
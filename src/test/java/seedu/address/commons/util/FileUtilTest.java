@@ -1,13 +1,23 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DurabilityPolicy;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,44 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingFile_createsFileAndParents() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, "content", DurabilityPolicy.SYNC_FILE_AND_DIRECTORY);
+        assertEquals("content", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContentWithoutTempFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "a much longer old content");
+        FileUtil.writeToFileAtomically(file, "new", DurabilityPolicy.NONE);
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(testFolder.resolve("file.txt.tmp")));
+    }
+
+    @Test
+    public void appendToFile() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.appendToFile(file, "first\n", DurabilityPolicy.SYNC_FILE);
+        FileUtil.appendToFile(file, "second\n", DurabilityPolicy.NONE);
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void deleteDirectory_nestedFiles_deletesEverything() throws Exception {
+        Path directory = testFolder.resolve("directory");
+        FileUtil.writeToFileAtomically(directory.resolve("nested").resolve("file.txt"), "content",
+                DurabilityPolicy.NONE);
+        FileUtil.writeToFile(directory.resolve("file.txt"), "content");
+        FileUtil.deleteDirectory(directory);
+        assertFalse(Files.exists(directory));
+    }
+
+    @Test
+    public void deleteDirectory_missingDirectory_doesNothing() throws Exception {
+        FileUtil.deleteDirectory(testFolder.resolve("missing"));
+        assertTrue(Files.exists(testFolder));
+    }
+
 }
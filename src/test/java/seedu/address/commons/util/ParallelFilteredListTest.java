@@ -0,0 +1,173 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.Observable;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ParallelFilteredListTest {
+
+    private static final Predicate<Integer> IS_MULTIPLE_OF_THREE = element -> element % 3 == 0;
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ParallelFilteredList<>(FXCollections.observableArrayList(), 0));
+    }
+
+    @Test
+    public void constructor_noPredicate_showsEveryElement() {
+        ParallelFilteredList<Integer> view = new ParallelFilteredList<>(FXCollections.observableArrayList(1, 2, 3), 1);
+        assertEquals(List.of(1, 2, 3), view);
+    }
+
+    @Test
+    public void setPredicate_largeList_testedInParallelWithSingleChange() {
+        ObservableList<Integer> source = FXCollections.observableArrayList(
+                IntStream.range(0, 3 * ParallelFilteredList.CHUNK_SIZE + 5).boxed().collect(Collectors.toList()));
+        ParallelFilteredList<Integer> view = new ParallelFilteredList<>(source, 1000);
+        List<Integer> copy = new ArrayList<>(view);
+        List<Integer> changeCounts = new ArrayList<>();
+        view.addListener((ListChangeListener<Integer>) change -> {
+            changeCounts.add(1);
+            replay(change, copy);
+        });
+
+        view.setPredicate(IS_MULTIPLE_OF_THREE);
+        assertEquals(filter(source, IS_MULTIPLE_OF_THREE), view);
+        assertEquals(view, copy);
+        assertEquals(1, changeCounts.size());
+
+        // Setting the same predicate again does not test the elements again
+        view.setPredicate(IS_MULTIPLE_OF_THREE);
+        assertEquals(1, changeCounts.size());
+
+        // Large additions to the source are also tested in parallel
+        source.addAll(7, IntStream.range(0, 2 * ParallelFilteredList.CHUNK_SIZE).boxed().collect(Collectors.toList()));
+        assertEquals(filter(source, IS_MULTIPLE_OF_THREE), view);
+        assertEquals(view, copy);
+
+        view.setPredicate(null);
+        assertEquals(source, view);
+        assertEquals(view, copy);
+    }
+
+    @Test
+    public void getViewIndex_elementsNotShown_returnsMinusOne() {
+        ParallelFilteredList<Integer> view = new ParallelFilteredList<>(
+                FXCollections.observableArrayList(1, 3, 4, 6), 1);
+        view.setPredicate(IS_MULTIPLE_OF_THREE);
+        assertEquals(List.of(3, 6), view);
+        assertEquals(-1, view.getViewIndex(0));
+        assertEquals(0, view.getViewIndex(1));
+        assertEquals(1, view.getViewIndex(3));
+        assertEquals(3, view.getSourceIndex(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.getSourceIndex(2));
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_sameAsFilteringSource() {
+        Random random = new Random(11);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        ParallelFilteredList<Integer> view = new ParallelFilteredList<>(source, 50);
+        view.setPredicate(IS_MULTIPLE_OF_THREE);
+        List<Integer> copy = new ArrayList<>(view);
+        view.addListener((ListChangeListener<Integer>) change -> replay(change, copy));
+
+        for (int i = 0; i < 400; i++) {
+            int operation = random.nextInt(7);
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), random.nextInt(100));
+            } else if (operation == 3) {
+                int from = random.nextInt(source.size());
+                source.remove(from, from + random.nextInt(source.size() - from + 1));
+            } else if (operation == 4) {
+                source.addAll(random.nextInt(source.size() + 1),
+                        random.ints(random.nextInt(200), 0, 100).boxed().collect(Collectors.toList()));
+            } else if (operation == 5) {
+                source.sort(Comparator.comparing(element -> (element * 7) % 10));
+            } else {
+                view.setPredicate(random.nextBoolean() ? IS_MULTIPLE_OF_THREE : element -> element % 2 == 0);
+            }
+            @SuppressWarnings("unchecked")
+            Predicate<Integer> predicate = (Predicate<Integer>) view.getPredicate();
+            assertEquals(filter(source, predicate), view);
+            assertEquals(view, copy);
+        }
+    }
+
+    @Test
+    public void sourceChanged_elementsUpdated_viewUpdated() {
+        ObservableList<IntegerProperty> source = FXCollections.observableArrayList(
+                property -> new Observable[] {property});
+        for (int i = 0; i < 10; i++) {
+            source.add(new SimpleIntegerProperty(i));
+        }
+        ParallelFilteredList<IntegerProperty> view = new ParallelFilteredList<>(source, 1);
+        view.setPredicate(property -> property.get() % 3 == 0);
+        List<IntegerProperty> copy = new ArrayList<>(view);
+        List<IntegerProperty> updated = new ArrayList<>();
+        view.addListener((ListChangeListener<IntegerProperty>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updated.addAll(change.getList().subList(change.getFrom(), change.getTo()));
+                }
+            }
+            change.reset();
+            replay(change, copy);
+        });
+
+        source.get(3).set(4);
+        source.get(4).set(9);
+        source.get(6).set(12);
+        assertEquals(List.of(source.get(0), source.get(4), source.get(6), source.get(9)), view);
+        assertEquals(view, copy);
+        assertEquals(List.of(source.get(6)), updated);
+        assertTrue(view.stream().allMatch(property -> property.get() % 3 == 0));
+    }
+
+    private static <E> List<E> filter(List<E> elements, Predicate<E> predicate) {
+        return elements.stream().filter(predicate == null ? element -> true : predicate)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Applies {@code change} to {@code copy}, checking the elements it reports removed.
+     */
+    private static <E> void replay(ListChangeListener.Change<? extends E> change, List<E> copy) {
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                List<E> permuted = new ArrayList<>(copy.subList(from, change.getTo()));
+                for (int i = from; i < change.getTo(); i++) {
+                    copy.set(change.getPermutation(i), permuted.get(i - from));
+                }
+            } else if (!change.wasUpdated()) {
+                List<E> removed = copy.subList(from, from + change.getRemovedSize());
+                assertEquals(removed, change.getRemoved());
+                removed.clear();
+                copy.addAll(from, change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(Collections.emptyList(), list.toList());
+    }
+
+    @Test
+    public void of_list_preservesOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        assertEquals(elements, PersistentList.of(elements).toList());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, "c"));
+    }
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+        PersistentList<String> updated = original.set(1, "x").add("d").remove(0).add(0, "y");
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+        assertEquals(Arrays.asList("y", "x", "c", "d"), updated.toList());
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int op = random.nextInt(3);
+            if (op == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            }
+        }
+        assertEquals(expected, actual.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+
+        // same values -> returns true
+        assertTrue(list.equals(PersistentList.<String>empty().add("a").add("b")));
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different values -> returns false
+        assertFalse(list.equals(list.add("c")));
+    }
+}
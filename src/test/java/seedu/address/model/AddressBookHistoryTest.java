@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Comparator;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBookHistory history = new AddressBookHistory();
+    private final AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        history.commit(Long.MAX_VALUE);
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, () -> history.undo(addressBook));
+    }
+
+    @Test
+    public void undoRedo_mixedChanges_restoresStates() {
+        AddressBook original = new AddressBook(addressBook);
+
+        int index = addressBook.indexOf(ALICE);
+        addressBook.removePerson(ALICE);
+        history.record(AddressBookChange.removed(index, ALICE));
+        Person editedBenson = new PersonBuilder(BENSON).withEmail("benson@example.com").build();
+        addressBook.setPerson(BENSON, editedBenson);
+        history.record(AddressBookChange.edited(BENSON, editedBenson));
+        addressBook.addPerson(CARL);
+        history.record(AddressBookChange.added(1, CARL));
+        history.commit(Long.MAX_VALUE);
+        AddressBook changed = new AddressBook(addressBook);
+
+        history.undo(addressBook);
+        assertEquals(original, addressBook);
+        assertTrue(history.canRedo());
+
+        history.redo(addressBook);
+        assertEquals(changed, addressBook);
+    }
+
+    @Test
+    public void undo_listReplaced_restoresOrder() {
+        AddressBook typical = getTypicalAddressBook();
+        PersistentList<Person> before = typical.snapshot();
+        typical.sortPersons(Comparator.comparing((Person p) -> p.getName().fullName).reversed());
+        history.record(AddressBookChange.replaced(before, typical.snapshot()));
+        history.commit(Long.MAX_VALUE);
+
+        history.undo(typical);
+        assertEquals(getTypicalAddressBook(), typical);
+    }
+
+    @Test
+    public void estimatedSize_listCleared_countsRemovedPersons() {
+        AddressBook typical = getTypicalAddressBook();
+        PersistentList<Person> before = typical.snapshot();
+        typical.sortPersons(Comparator.comparing((Person p) -> p.getName().fullName).reversed());
+        long sortedSize = AddressBookChange.replaced(before, typical.snapshot()).estimatedSize();
+        long clearedSize = AddressBookChange.replaced(before, PersistentList.empty()).estimatedSize();
+
+        // A sort shares every person with the live list, but a clear leaves them to the history alone
+        long removedPersonsSize = 0;
+        for (Person person : before) {
+            removedPersonsSize += AddressBookChange.removed(0, person).estimatedSize();
+        }
+        assertTrue(clearedSize > removedPersonsSize);
+        assertTrue(sortedSize < removedPersonsSize);
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoHistory() {
+        addressBook.addPerson(CARL);
+        history.record(AddressBookChange.added(2, CARL));
+        history.commit(Long.MAX_VALUE);
+        history.undo(addressBook);
+
+        addressBook.removePerson(ALICE);
+        history.record(AddressBookChange.removed(0, ALICE));
+        history.commit(Long.MAX_VALUE);
+
+        assertFalse(history.canRedo());
+        assertTrue(history.getTotalSize() > 0);
+    }
+}
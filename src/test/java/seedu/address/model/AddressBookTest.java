@@ -2,23 +2,31 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -43,6 +51,15 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withAddressBook_copiesPersons() {
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        newData.removePerson(ALICE);
+        assertTrue(addressBook.hasPerson(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsDuplicatePersonException() {
         // Two persons with the same identity fields (name and phone)
@@ -54,6 +71,69 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void getVersion_changesOnlyWhenModified() {
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() != version);
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getVersion() != version);
+    }
+
+    @Test
+    public void getSearchIndex_personListChanges_indexKeptUpToDate() {
+        addressBook.resetData(getTypicalAddressBook());
+        TrigramIndex index = addressBook.getSearchIndex();
+        assertEquals(addressBook.getPersonList().size(), index.size());
+
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        addressBook.sortPersons(Comparator.comparing(person -> person.getName().fullName));
+        addressBook.addPerson(ALICE);
+        addressBook.resetData(new AddressBook(addressBook));
+
+        assertSame(index, addressBook.getSearchIndex());
+        assertEquals(addressBook.getPersonList().size(), index.size());
+    }
+
+    @Test
+    public void getSearchIndex_personListChangedWhileBuilding_changesApplied() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.buildSearchIndex();
+
+        // The index is only taken into use on the next search, so these changes are made while it is pending
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        addressBook.addPerson(AMY);
+
+        TrigramIndex index = addressBook.getSearchIndex();
+        assertEquals(addressBook.getPersonList().size(), index.size());
+        assertSame(index, addressBook.getBuiltSearchIndex().get());
+        Predicate<Person> narrowed = index.narrow(new NameContainsKeywordsPredicate(List.of("Amy")));
+        assertEquals(List.of(AMY), addressBook.getPersonList().stream().filter(narrowed)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void getSearchIndex_personListReplacedWhileBuilding_indexBuiltAfresh() {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.buildSearchIndex();
+
+        // More persons change than the list holds, so the pending index is dropped instead of brought up to date
+        addressBook.setPersons(List.of(AMY));
+        addressBook.addPerson(ALICE);
+
+        TrigramIndex index = addressBook.getSearchIndex();
+        assertEquals(addressBook.getPersonList().size(), index.size());
+        Predicate<Person> narrowed = index.narrow(new NameContainsKeywordsPredicate(List.of("Benson")));
+        assertEquals(List.of(), addressBook.getPersonList().stream().filter(narrowed).collect(Collectors.toList()));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -104,6 +184,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -7,16 +7,23 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +95,146 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void undoRedoAddressBook_afterCommits_restoresCommittedStates() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), modelManager.getAddressBook());
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        modelManager.redoAddressBook();
+        modelManager.redoAddressBook();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                modelManager.getAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_uncommittedChanges_revertedWithLastCommit() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+        assertTrue(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_laterChanges_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+        modelManager.addPerson(BENSON);
+
+        assertEquals(Arrays.asList(ALICE), snapshot.getPersonList());
+        assertTrue(snapshot.getVersion() != modelManager.getAddressBook().getVersion());
+    }
+
+    @Test
+    public void deletePersons_thenUndo_restoresPersons() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.deletePersons(Arrays.asList(ALICE, BENSON));
+        modelManager.commitAddressBook();
+        assertEquals(new AddressBook(), modelManager.getAddressBook());
+
+        modelManager.undoAddressBook();
+        assertEquals(addressBook, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void deletePersons_scatteredPersons_undoRestoresOrder() {
+        AddressBook addressBook = getTypicalAddressBook();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        List<Person> persons = addressBook.getPersonList();
+        List<Person> targets = Arrays.asList(persons.get(4), persons.get(0), persons.get(2));
+
+        modelManager.deletePersons(targets);
+        modelManager.commitAddressBook();
+        AddressBook afterDelete = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.undoAddressBook();
+        assertEquals(addressBook, modelManager.getAddressBook());
+        modelManager.redoAddressBook();
+        assertEquals(afterDelete, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void deletePersons_undo_restoresInSingleChange() {
+        AddressBook addressBook = getTypicalAddressBook();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        List<Person> persons = addressBook.getPersonList();
+        modelManager.deletePersons(Arrays.asList(persons.get(1), persons.get(3), persons.get(6)));
+        modelManager.commitAddressBook();
+
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        modelManager.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) changes::add);
+        modelManager.undoAddressBook();
+        assertEquals(1, changes.size());
+        assertEquals(addressBook, modelManager.getAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_historyOverBudget_dropsOldestEntries() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryByteBudget(1);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+
+        // only the most recent entry is kept
+        modelManager.undoAddressBook();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), modelManager.getAddressBook());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void updateFilteredPersonList_keywords_keptUpToDateAsPersonsChange() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("MEIER")));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+
+        Person aliceMeier = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, aliceMeier);
+        assertEquals(Arrays.asList(aliceMeier, BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withName("Benson Best").build());
+        assertEquals(Arrays.asList(aliceMeier), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_parallelFilterThresholdReached_sameResultsAsSequential() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 20_000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000L + i))
+                    .withTags("tag" + (i % 10)).build());
+        }
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setParallelFilterThreshold(1);
+        ModelManager parallelModel = new ModelManager(addressBook, userPrefs);
+        ModelManager sequentialModel = new ModelManager(addressBook, new UserPrefs());
+
+        List<Predicate<Person>> predicates = List.of(new NameContainsKeywordsPredicate(List.of("son 19", "99")),
+                person -> person.getTags().stream().anyMatch(tag -> tag.tagName.equals("tag3")));
+        for (Predicate<Person> predicate : predicates) {
+            parallelModel.updateFilteredPersonList(predicate);
+            sequentialModel.updateFilteredPersonList(predicate);
+            assertFalse(parallelModel.getFilteredPersonList().isEmpty());
+            assertEquals(sequentialModel.getFilteredPersonList(), parallelModel.getFilteredPersonList());
+        }
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -18,4 +18,22 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setStorageSettings_nullStorageSettings_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setStorageSettings(null));
+    }
+
+    @Test
+    public void setUndoHistoryByteBudget_negativeBudget_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryByteBudget(-1));
+    }
+
+    @Test
+    public void setParallelFilterThreshold_nonPositiveThreshold_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setParallelFilterThreshold(0));
+    }
+
 }
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -104,6 +107,36 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void getLowerCaseKeywords_redundantKeywords_leftOut() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(
+                Arrays.asList(" Alice ", "bob", "ALICE", "", "alice tan", "Bobby", "li", null, "  "));
+        assertArrayEquals(new String[] {"li", "bob"}, predicate.getLowerCaseKeywords());
+
+        // Leaving out keywords that contain another does not change which persons match
+        assertTrue(predicate.test(new PersonBuilder().withName("Bobby").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Li").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("Carol").withEmail("carol@example.com")
+                .withAddress("Main Street").withCompany("Tech").build()));
+    }
+
+    @Test
+    public void test_manyKeywords_sameAsAnySingleKeyword() {
+        List<String> keywords = List.of("Carl", "92492021", "lydia@", "TAN", "owesMoney", "street", "Tech", "zzz");
+        assertTrue(keywords.size() >= NameContainsKeywordsPredicate.MIN_AUTOMATON_KEYWORD_COUNT);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        persons.add(new PersonBuilder().withName("Foo").withPhone("0000").withEmail(null).withAddress(null)
+                .withCompany("Techno").build());
+        persons.add(new PersonBuilder().withName("Foo").withPhone("0000").withEmail(null).withAddress(null).build());
+        for (Person person : persons) {
+            boolean isExpected = keywords.stream()
+                    .anyMatch(keyword -> new NameContainsKeywordsPredicate(List.of(keyword)).test(person));
+            assertEquals(isExpected, predicate.test(person), person.toString());
+        }
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
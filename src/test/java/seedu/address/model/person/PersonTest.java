@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -12,6 +13,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -119,4 +122,37 @@ public class PersonTest {
         assertTrue(ALICE.isSamePerson(editedAlice));
     }
 
+    @Test
+    public void getSearchKeys() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withPhone("94351253").withEmail(null)
+                .withAddress("123, Jurong West").withCompany("Tech Corp").withPriority("HIGH").withTags("Friends")
+                .build();
+        assertEquals(List.of("alice pauline", "94351253", "123, jurong west", "high", "friends", "tech corp"),
+                person.getSearchKeys());
+
+        // computed once and kept
+        assertSame(person.getSearchKeys(), person.getSearchKeys());
+    }
+
+    @Test
+    public void getIdentity() {
+        // same name and phone, other fields different -> equal identities
+        Person editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).withAddress(VALID_ADDRESS_BOB)
+                .withTags(VALID_TAG_HUSBAND).build();
+        assertEquals(ALICE.getIdentity(), editedAlice.getIdentity());
+        assertEquals(ALICE.getIdentity().hashCode(), editedAlice.getIdentity().hashCode());
+
+        // name differs in case -> equal identities
+        Person editedBob = new PersonBuilder(BOB).withName(VALID_NAME_BOB.toUpperCase()).build();
+        assertEquals(BOB.getIdentity(), editedBob.getIdentity());
+        assertEquals(BOB.getIdentity().hashCode(), editedBob.getIdentity().hashCode());
+
+        // different phone -> different identities
+        editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        assertFalse(ALICE.getIdentity().equals(editedAlice.getIdentity()));
+
+        // different name -> different identities
+        editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        assertFalse(ALICE.getIdentity().equals(editedAlice.getIdentity()));
+    }
 }
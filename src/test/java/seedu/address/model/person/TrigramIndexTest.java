@@ -0,0 +1,128 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void narrow_manyKeywords_sameResultsAsPredicate() {
+        List<Person> persons = generatePersons(300);
+        persons.addAll(getTypicalPersons());
+        TrigramIndex index = new TrigramIndex(persons);
+        Random random = new Random(42);
+        String[] pieces = {"per", "PERSON 1", "son 2", "@example", "example.COM", "clementi ave 3", "blk 12",
+            "8000", "company 7", "FRIENDS", "tag9", "high", "low", "medium", "alice", "meier", "zzz", "xyz1",
+            "a", "12", "ie", "elle meyer", "owesmoney"};
+
+        for (int i = 0; i < 200; i++) {
+            List<String> keywords = new ArrayList<>();
+            int keywordCount = 1 + random.nextInt(3);
+            for (int j = 0; j < keywordCount; j++) {
+                keywords.add(pieces[random.nextInt(pieces.length)]);
+            }
+            assertSameResults(index, persons, new NameContainsKeywordsPredicate(keywords));
+        }
+    }
+
+    @Test
+    public void narrow_shortKeyword_predicateReturned() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("alice", "al"));
+        assertSame(predicate, new TrigramIndex(getTypicalPersons()).narrow(predicate));
+    }
+
+    @Test
+    public void narrow_personsChangedAfterSearch_changedPersonsTestedInFull() {
+        List<Person> persons = new ArrayList<>(getTypicalPersons());
+        TrigramIndex index = new TrigramIndex(persons);
+        Predicate<Person> narrowed = index.narrow(new NameContainsKeywordsPredicate(List.of("amy")));
+        assertFalse(narrowed.test(ALICE));
+
+        // Persons added after the search are tested in full
+        index.add(AMY);
+        assertTrue(narrowed.test(AMY));
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("amy@example.com").build();
+        index.replace(List.of(ALICE), List.of(editedAlice));
+        assertTrue(narrowed.test(editedAlice));
+        assertEquals(persons.size() + 1, index.size());
+    }
+
+    @Test
+    public void replace_sharedPersons_keptInIndex() {
+        List<Person> persons = generatePersons(10);
+        TrigramIndex index = new TrigramIndex(persons);
+        Predicate<Person> narrowed = index.narrow(new NameContainsKeywordsPredicate(List.of("person 3")));
+
+        List<Person> restored = new ArrayList<>(persons);
+        restored.set(5, BENSON);
+        index.replace(persons, restored);
+
+        assertEquals(10, index.size());
+        assertTrue(narrowed.test(persons.get(3)));
+        assertFalse(narrowed.test(persons.get(4)));
+        assertFalse(narrowed.test(BENSON));
+    }
+
+    @Test
+    public void remove_mostPersons_indexRebuiltWithSameResults() {
+        List<Person> persons = generatePersons(3000);
+        TrigramIndex index = new TrigramIndex(persons);
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("person 29", "son 7"));
+        Predicate<Person> narrowedBeforeRebuild = index.narrow(predicate);
+
+        List<Person> remaining = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % 5 == 0) {
+                remaining.add(persons.get(i));
+            } else {
+                index.remove(persons.get(i));
+            }
+        }
+
+        assertEquals(remaining.size(), index.size());
+        assertSameResults(index, remaining, predicate);
+        assertEquals(filter(remaining, predicate), filter(remaining, narrowedBeforeRebuild));
+    }
+
+    private static void assertSameResults(TrigramIndex index, List<Person> persons,
+            NameContainsKeywordsPredicate predicate) {
+        assertEquals(filter(persons, predicate), filter(persons, index.narrow(predicate)), predicate.toString());
+    }
+
+    private static List<Person> filter(List<Person> persons, Predicate<Person> predicate) {
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    private static List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder()
+                    .withName("Person " + i)
+                    .withPhone(String.valueOf(80000000L + i))
+                    .withEmail("person" + i + "@example.com")
+                    .withAddress("Blk " + i + ", Clementi Ave " + (i % 7))
+                    .withCompany("Company " + (i % 13))
+                    .withTags("friends", "tag" + (i % 10))
+                    .withPriority(String.valueOf(i % 5 + 1))
+                    .build());
+        }
+        return persons;
+    }
+}
@@ -7,14 +7,18 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -48,6 +52,22 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithNameInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void contains_personEditedOrRemoved_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        uniquePersonList.remove(BOB);
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -129,6 +149,95 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BOB);
+        uniquePersonList.removeAll(Arrays.asList(BOB, ALICE));
+        assertEquals(Arrays.asList(BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+        assertEquals(Arrays.asList(BENSON, CARL), uniquePersonList.snapshot().toList());
+    }
+
+    @Test
+    public void addAll_removedPersons_restoresList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(BOB);
+        uniquePersonList.removeAll(Arrays.asList(BOB, BENSON));
+        uniquePersonList.addAll(new int[] {1, 3}, Arrays.asList(BENSON, BOB));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(3, uniquePersonList.indexOf(BOB));
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, BOB), uniquePersonList.snapshot().toList());
+    }
+
+    @Test
+    public void addAll_duplicatePerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.addAll(new int[] {0, 1}, Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.addAll(new int[] {0, 1}, Arrays.asList(BOB, BOB)));
+        assertEquals(Arrays.asList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void indexOf_afterSeveralInsertions_returnsCurrentPosition() {
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(0, ALICE);
+        uniquePersonList.add(1, CARL);
+        uniquePersonList.add(BOB);
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+        assertEquals(2, uniquePersonList.indexOf(BENSON));
+        assertEquals(3, uniquePersonList.indexOf(BOB));
+    }
+
+    @Test
+    public void indexOf_afterInsertionsAndRemovals_returnsCurrentPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.indexOf(BENSON));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+
+        uniquePersonList.add(1, ALICE);
+        assertEquals(0, uniquePersonList.indexOf(BENSON));
+        assertEquals(1, uniquePersonList.indexOf(ALICE));
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+        assertEquals(-1, uniquePersonList.indexOf(BOB));
+
+        uniquePersonList.setPerson(CARL, BOB);
+        assertEquals(2, uniquePersonList.indexOf(BOB));
+        assertEquals(-1, uniquePersonList.indexOf(CARL));
+
+        uniquePersonList.sort(Comparator.comparing(person -> person.getName().fullName));
+        assertEquals(Arrays.asList(ALICE, BENSON, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(2, uniquePersonList.indexOf(BOB));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -164,6 +273,53 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityInDifferentCase_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        // the list is left unchanged
+        assertEquals(new UniquePersonList(), uniquePersonList);
+    }
+
+    @Test
+    public void setPersons_uniquePersonList_copiesIdentities() {
+        UniquePersonList source = new UniquePersonList();
+        source.add(ALICE);
+        uniquePersonList.setPersons(source);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
+
+        // later changes to the source do not affect the copy
+        source.remove(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void snapshot_laterChanges_snapshotUnchanged() {
+        uniquePersonList.add(ALICE);
+        PersistentList<Person> snapshot = uniquePersonList.snapshot();
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Collections.singletonList(ALICE), snapshot.toList());
+    }
+
+    @Test
+    public void restore_snapshot_restoresContents() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        PersistentList<Person> snapshot = uniquePersonList.snapshot();
+        uniquePersonList.setPerson(BOB, new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build());
+        uniquePersonList.remove(ALICE);
+
+        uniquePersonList.restore(snapshot);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.snapshot().toList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,204 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookJournalTest {
+
+    private static final long LARGE_THRESHOLD = 1024 * 1024;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFilePath;
+    private Path journalFilePath;
+    private JsonAddressBookStorage dataStorage;
+
+    @BeforeEach
+    public void setUp() {
+        dataFilePath = testFolder.resolve("addressbook.json");
+        journalFilePath = AddressBookJournal.getJournalFilePath(dataFilePath);
+        dataStorage = new JsonAddressBookStorage(dataFilePath);
+    }
+
+    @Test
+    public void getJournalFilePath_dataFilePath_siblingWithSuffix() {
+        assertEquals(testFolder.resolve("addressbook.json.journal"), journalFilePath);
+    }
+
+    @Test
+    public void save_changesAfterFirstSave_appendedWithoutRewritingDataFile() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookJournal journal = startJournal(addressBook, LARGE_THRESHOLD);
+
+        addressBook.addPerson(AMY);
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        addressBook.removePersons(Arrays.asList(CARL, AMY));
+        journal.save(addressBook, dataStorage);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(dataStorage.readAddressBook().get()));
+        assertEquals(addressBook, new AddressBook(replay().get()));
+    }
+
+    @Test
+    public void save_journalOverThreshold_rewritesDataFile() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookJournal journal = startJournal(addressBook, 1);
+
+        addressBook.addPerson(AMY);
+        journal.save(addressBook, dataStorage);
+
+        assertEquals(addressBook, new AddressBook(dataStorage.readAddressBook().get()));
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(addressBook, new AddressBook(replay().get()));
+    }
+
+    @Test
+    public void save_sortedPersons_rewritesDataFile() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookJournal journal = startJournal(addressBook, LARGE_THRESHOLD);
+
+        addressBook.sortPersons(Comparator.comparing(person -> person.getPhone().value));
+        journal.save(addressBook, dataStorage);
+
+        assertEquals(addressBook, new AddressBook(dataStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_wholeListReplaced_rewritesDataFileWithoutRecord() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookJournal journal = startJournal(addressBook, LARGE_THRESHOLD);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i <= AddressBookJournal.MAX_JOURNALLED_ADDED_SIZE; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+
+        addressBook.setPersons(persons);
+        journal.save(addressBook, dataStorage);
+
+        assertEquals(addressBook, new AddressBook(dataStorage.readAddressBook().get()));
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+    }
+
+    @Test
+    public void save_laterChangesNotInSnapshot_appendedWithNextSave() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        AddressBookJournal journal = startJournal(addressBook, LARGE_THRESHOLD);
+
+        addressBook.addPerson(AMY);
+        AddressBook savedState = new AddressBookBuilder().withPerson(AMY).build();
+        long savedVersion = addressBook.getVersion();
+        addressBook.addPerson(BOB);
+        journal.save(new VersionedAddressBook(savedState, savedVersion), dataStorage);
+        assertEquals(savedState, new AddressBook(replay().get()));
+
+        journal.save(addressBook, dataStorage);
+        assertEquals(addressBook, new AddressBook(replay().get()));
+    }
+
+    @Test
+    public void replay_dataFileRewrittenSinceJournal_journalIgnored() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookJournal journal = startJournal(addressBook, LARGE_THRESHOLD);
+        addressBook.addPerson(AMY);
+        journal.save(addressBook, dataStorage);
+
+        AddressBook rewritten = new AddressBookBuilder().withPerson(BOB).build();
+        dataStorage.saveAddressBook(rewritten);
+
+        assertEquals(rewritten, new AddressBook(replay().get()));
+    }
+
+    @Test
+    public void replay_truncatedLastRecord_appliesEarlierRecordsAndRewritesOnSave() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookJournal journal = startJournal(addressBook, LARGE_THRESHOLD);
+        addressBook.addPerson(AMY);
+        journal.save(addressBook, dataStorage);
+        Files.write(journalFilePath, "{\"operation\":\"add\",\"ind".getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        AddressBookJournal reopened = new AddressBookJournal(journalFilePath, LARGE_THRESHOLD);
+        AddressBook reloaded = new AddressBook(reopened.replay(dataStorage.readAddressBook(), dataFilePath).get());
+        assertEquals(addressBook, reloaded);
+
+        reopened.track(reloaded);
+        reloaded.addPerson(BOB);
+        reopened.save(reloaded, dataStorage);
+        assertEquals(reloaded, new AddressBook(dataStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void replay_recordWithInvalidPerson_throwsDataLoadingException() throws Exception {
+        AddressBookJournal journal = startJournal(new AddressBook(), LARGE_THRESHOLD);
+        Files.write(journalFilePath, "{\"operation\":\"add\",\"index\":0,\"persons\":[{\"name\":\"R@chel\"}]}\n"
+                .getBytes(UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, this::replay);
+    }
+
+    @Test
+    public void replay_noDataFile_returnsEmpty() throws Exception {
+        assertEquals(Optional.empty(), replay());
+    }
+
+    /**
+     * Returns a journal tracking {@code addressBook} whose current state has been saved.
+     */
+    private AddressBookJournal startJournal(AddressBook addressBook, long threshold) throws Exception {
+        AddressBookJournal journal = new AddressBookJournal(journalFilePath, threshold);
+        journal.track(addressBook);
+        journal.save(addressBook, dataStorage);
+        return journal;
+    }
+
+    private Optional<ReadOnlyAddressBook> replay() throws Exception {
+        return new AddressBookJournal(journalFilePath, LARGE_THRESHOLD)
+                .replay(dataStorage.readAddressBook(), dataFilePath);
+    }
+
+    /**
+     * An address book state as seen at an earlier version of a tracked address book.
+     */
+    private static class VersionedAddressBook extends AddressBook {
+        private final long version;
+
+        VersionedAddressBook(ReadOnlyAddressBook toBeCopied, long version) {
+            super(toBeCopied);
+            this.version = version;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
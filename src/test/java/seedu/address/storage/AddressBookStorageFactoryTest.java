@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.model.AddressBook;
+
+public class AddressBookStorageFactoryTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_storageOfThatFormat() {
+        Path filePath = testFolder.resolve("addressbook.json");
+        assertTrue(createStorage(filePath, DataFileFormat.JSON) instanceof JsonAddressBookStorage);
+        assertTrue(createStorage(filePath, DataFileFormat.BINARY) instanceof BinaryAddressBookStorage);
+        assertTrue(createStorage(filePath, DataFileFormat.SHARDED) instanceof ShardedAddressBookStorage);
+        assertTrue(createStorage(filePath, DataFileFormat.RECORD_FILE) instanceof RecordFileAddressBookStorage);
+    }
+
+    @Test
+    public void detectFormat_noDataFile_empty() throws Exception {
+        assertFalse(AddressBookStorageFactory.detectFormat(testFolder.resolve("addressbook.json")).isPresent());
+    }
+
+    @Test
+    public void detectFormat_savedInEachFormat_formatFoundAndReadByEveryStorage() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        for (DataFileFormat format : DataFileFormat.values()) {
+            createStorage(filePath, format).saveAddressBook(original);
+            assertEquals(Optional.of(format), AddressBookStorageFactory.detectFormat(filePath));
+            for (DataFileFormat readerFormat : DataFileFormat.values()) {
+                assertEquals(original, new AddressBook(createStorage(filePath, readerFormat).readAddressBook().get()));
+            }
+        }
+    }
+
+    private static AddressBookStorage createStorage(Path filePath, DataFileFormat format) {
+        return AddressBookStorageFactory.createStorage(filePath, new StorageSettings().withDataFileFormat(format));
+    }
+}
@@ -0,0 +1,260 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getFullAddressBook() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Full Person").withCompany("Acme, Inc.")
+                .withNote("Likes tea").withPriority("2").withTags("friends", "colleagues").build());
+        addressBook.addPerson(new PersonBuilder().withName("Other Person").withCompany("Acme, Inc.")
+                .withEmail(null).withAddress(null).withPriority("LOW").build());
+        Person hoon = new PersonBuilder(HOON).build();
+        addressBook.addPerson(new Person(hoon.getName(), hoon.getPhone(), hoon.getEmail(), hoon.getAddress(),
+                hoon.getCompany(), hoon.getTags(), new Note("Edited ünïcödé", LocalDateTime.of(2025, 10, 1, 9, 30)),
+                hoon.getPriority()));
+        return addressBook;
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        assertFalse(storage.readAddressBook().isPresent());
+
+        AddressBook original = getFullAddressBook();
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, storage.readAddressBook().get());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, storage.readAddressBook().get());
+
+        BinaryAddressBookStorage parallelStorage = new BinaryAddressBookStorage(filePath,
+                new StorageSettings().withParallelLoadEnabled(true));
+        assertEquals(original, parallelStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameJson() throws Exception {
+        Path jsonPath = testFolder.resolve("addressBook.json");
+        Path binaryPath = testFolder.resolve("addressBook.bin");
+        AddressBook original = getFullAddressBook();
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+
+        // The binary storage reads a JSON data file and saves it in the binary format
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryPath);
+        binaryStorage.saveAddressBook(binaryStorage.readAddressBook(jsonPath).get());
+        assertTrue(Files.size(binaryPath) < Files.size(jsonPath));
+
+        // The JSON storage reads a binary data file and saves it as the same JSON
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(binaryPath);
+        Path convertedPath = testFolder.resolve("converted.json");
+        jsonStorage.saveAddressBook(jsonStorage.readAddressBook().get(), convertedPath);
+        assertEquals(Files.readString(jsonPath), Files.readString(convertedPath));
+    }
+
+    @Test
+    public void readAddressBook_corruptRecord_throwsDataLoadingException() throws Exception {
+        byte[] content = toBinary(getTypicalAddressBook());
+        int nameOffset = indexOf(content, "Benson Meier");
+        content[nameOffset] = 'X';
+        assertLoadFails(content, String.format(BinaryAddressBookStorage.MESSAGE_CORRUPT_RECORD, 2));
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        byte[] content = toBinary(getTypicalAddressBook());
+        ByteBuffer.wrap(content).putInt(4, BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        assertLoadFails(content, String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookStorage.FORMAT_VERSION + 1));
+    }
+
+    @Test
+    public void readAddressBook_corruptPersonCount_throwsDataLoadingException() throws Exception {
+        byte[] content = toBinary(getTypicalAddressBook());
+        // The person count is the first byte of the header record
+        content[9] = 0x7F;
+        assertLoadFails(content, String.format(BinaryAddressBookStorage.MESSAGE_CORRUPT_RECORD, 0));
+    }
+
+    @Test
+    public void readAddressBook_recordLengthPastEndOfFile_throwsDataLoadingException() throws Exception {
+        byte[] content = toBinary(getTypicalAddressBook());
+        // Within the largest record length allowed, but longer than the file
+        byte[] hugeLength = {(byte) 0xFF, (byte) 0xFF, 0x7F};
+        byte[] corrupt = new byte[content.length + hugeLength.length - 1];
+        System.arraycopy(content, 0, corrupt, 0, 8);
+        System.arraycopy(hugeLength, 0, corrupt, 8, hugeLength.length);
+        System.arraycopy(content, 9, corrupt, 8 + hugeLength.length, content.length - 9);
+        assertLoadFails(corrupt, String.format(BinaryAddressBookStorage.MESSAGE_CORRUPT_RECORD, 0));
+    }
+
+    @Test
+    public void readAddressBook_firstFormatVersion_success() throws Exception {
+        AddressBook original = getFullAddressBook();
+        Path filePath = testFolder.resolve("first.bin");
+        Files.write(filePath, toFirstFormatVersion(toBinary(original), original.getPersonList().size()));
+
+        assertEquals(original, new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_firstFormatVersionHugePersonCount_throwsDataLoadingException() throws Exception {
+        // The person count of the first version has no checksum, so it must not size anything unchecked
+        byte[] content = toFirstFormatVersion(toBinary(getTypicalAddressBook()), Integer.MAX_VALUE);
+        assertLoadFails(content, BinaryAddressBookStorage.MESSAGE_CORRUPT_HEADER);
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        byte[] content = toBinary(getTypicalAddressBook());
+        byte[] truncated = new byte[content.length - 10];
+        System.arraycopy(content, 0, truncated, 0, truncated.length);
+        assertLoadFails(truncated, null);
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataLoadingException() throws Exception {
+        // The binary format holds what it is given, so duplicates are only caught on load
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(new PersonBuilder(ALICE).withName("Alice Paulinf").build());
+        byte[] content = toBinary(addressBook);
+        int nameOffset = indexOf(content, "Alice Paulinf");
+        int recordStart = nameOffset - 2;
+        byte[] fixedName = "Alice Pauline".getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(fixedName, 0, content, nameOffset, fixedName.length);
+        fixChecksum(content, recordStart);
+
+        for (boolean isParallel : new boolean[] {false, true}) {
+            Path filePath = testFolder.resolve("duplicates.bin");
+            Files.write(filePath, content);
+            DataLoadingException e = Assertions.assertThrows(DataLoadingException.class, () ->
+                    new BinaryAddressBookStorage(filePath, new StorageSettings().withParallelLoadEnabled(isParallel))
+                            .readAddressBook());
+            assertEquals(IllegalValueException.class, e.getCause().getClass());
+            assertEquals(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void writeAddressBook_emptyAddressBook_readBackEmpty() throws Exception {
+        Path filePath = testFolder.resolve("empty.bin");
+        Files.write(filePath, toBinary(new AddressBook()));
+        assertEquals(new AddressBook(), new BinaryAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void isBinaryFile() throws Exception {
+        Path filePath = testFolder.resolve("data");
+        Files.write(filePath, new byte[] {'A', 'B'});
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(getTypicalAddressBook()), filePath);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    private static byte[] toBinary(AddressBook addressBook) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryAddressBookStorage.writeAddressBook(addressBook, out);
+        return out.toByteArray();
+    }
+
+    private static int indexOf(byte[] content, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        outer:
+        for (int i = 0; i + bytes.length <= content.length; i++) {
+            for (int j = 0; j < bytes.length; j++) {
+                if (content[i + j] != bytes[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        throw new AssertionError(text + " not found");
+    }
+
+    /**
+     * Returns {@code content}, a binary file of a few persons, in the first version of the format, with
+     * {@code personCount} as its person count.
+     */
+    private static byte[] toFirstFormatVersion(byte[] content, int personCount) throws Exception {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+        in.readLong();
+        byte[] headerRecord = new byte[BinaryAddressBookStorage.readVarInt(in)];
+        in.readFully(headerRecord);
+        in.readInt();
+        byte[] personRecords = in.readAllBytes();
+
+        DataInputStream header = new DataInputStream(new ByteArrayInputStream(headerRecord));
+        BinaryAddressBookStorage.readVarInt(header);
+        byte[] dictionaryRecord = header.readAllBytes();
+        CRC32 checksum = new CRC32();
+        checksum.update(dictionaryRecord);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(BinaryAddressBookStorage.MAGIC);
+        out.writeInt(BinaryAddressBookStorage.FIRST_FORMAT_VERSION);
+        BinaryAddressBookStorage.writeVarInt(out, dictionaryRecord.length);
+        out.write(dictionaryRecord);
+        out.writeInt((int) checksum.getValue());
+        BinaryAddressBookStorage.writeVarInt(out, personCount);
+        out.write(personRecords);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Recomputes the checksum of the record starting at {@code recordStart}, whose length fits in one byte.
+     */
+    private static void fixChecksum(byte[] content, int recordStart) {
+        int length = content[recordStart];
+        CRC32 checksum = new CRC32();
+        checksum.update(content, recordStart + 1, length);
+        ByteBuffer.wrap(content).putInt(recordStart + 1 + length, (int) checksum.getValue());
+    }
+
+    private void assertLoadFails(byte[] content, String expectedMessage) throws Exception {
+        Path filePath = testFolder.resolve("invalid.bin");
+        Files.write(filePath, content);
+        DataLoadingException e = Assertions.assertThrows(DataLoadingException.class, () ->
+                new BinaryAddressBookStorage(filePath).readAddressBook());
+        if (expectedMessage != null) {
+            assertEquals(expectedMessage, e.getCause().getMessage());
+        }
+    }
+}
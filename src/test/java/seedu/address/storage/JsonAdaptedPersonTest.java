@@ -5,13 +5,19 @@ import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORM
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Company;
 import seedu.address.model.person.Email;
@@ -253,4 +259,54 @@ public class JsonAdaptedPersonTest {
         assertEquals(null, modelPerson.getAddress());
         assertEquals(null, modelPerson.getPriority());
     }
+
+    @Test
+    public void serialize_adaptedPerson_sameAsWrittenFromPerson() throws Exception {
+        Person person = new PersonBuilder(BENSON).withCompany(VALID_COMPANY).withNote(VALID_NOTE)
+                .withPriority(VALID_PRIORITY).build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            JsonAdaptedPerson.write(person, generator);
+        }
+
+        assertEquals(out.toString(StandardCharsets.UTF_8), JsonUtil.toJsonString(new JsonAdaptedPerson(person)));
+    }
+
+    @Test
+    public void deserialize_serializedPerson_returnsSamePerson() throws Exception {
+        Person person = new PersonBuilder(BENSON).withNote(VALID_NOTE).withPriority(VALID_PRIORITY).build();
+        String json = JsonUtil.toJsonString(new JsonAdaptedPerson(person));
+
+        assertEquals(person, JsonUtil.fromJsonString(json, JsonAdaptedPerson.class).toModelType());
+    }
+
+    @Test
+    public void deserialize_unknownAndMissingFields_unknownSkippedMissingNull() throws Exception {
+        String json = "{\"id\": {\"nested\": [1, 2]}, \"phone\": 98765432, \"name\": \"" + VALID_NAME + "\","
+                + " \"tags\": [\"friends\"], \"email\": null}";
+
+        JsonAdaptedPerson person = JsonUtil.fromJsonString(json, JsonAdaptedPerson.class);
+
+        assertEquals(VALID_NAME, person.getName());
+        assertEquals("98765432", person.getPhone());
+        assertEquals(null, person.getEmail());
+        assertEquals(null, person.getNote());
+        assertEquals(1, person.getTags().size());
+        assertEquals("friends", person.getTags().get(0).getTagName());
+    }
+
+    @Test
+    public void deserialize_tagsNotArrayOfNames_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonUtil.fromJsonString(
+                "{\"name\": \"" + VALID_NAME + "\", \"tags\": \"friends\"}", JsonAdaptedPerson.class));
+        assertThrows(IOException.class, () -> JsonUtil.fromJsonString(
+                "{\"name\": \"" + VALID_NAME + "\", \"tags\": [{\"tagName\": \"friends\"}]}",
+                JsonAdaptedPerson.class));
+    }
+
+    @Test
+    public void deserialize_objectAsFieldValue_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonUtil.fromJsonString(
+                "{\"name\": {\"first\": \"Benson\"}}", JsonAdaptedPerson.class));
+    }
 }
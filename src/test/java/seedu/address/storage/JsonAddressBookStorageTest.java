@@ -2,22 +2,42 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.DurabilityPolicy;
+import seedu.address.commons.core.StorageSettings;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -60,6 +80,61 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_duplicatePersons_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("duplicatePersonAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("truncatedAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_missingPersons_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readAddressBook("missingPersonsAddressBook.json"));
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_ignored() throws Exception {
+        AddressBook expected = new AddressBook();
+        expected.addPerson(ALICE);
+        assertEquals(expected, new AddressBook(readAddressBook("unknownFieldsAddressBook.json").get()));
+    }
+
+    @Test
+    public void readAddressBook_parallelLoad_sameResultAsSequentialLoad() throws Exception {
+        for (String file : List.of("unknownFieldsAddressBook.json", "NonExistentFile.json")) {
+            assertEquals(readAddressBook(file), readAddressBookInParallel(file));
+        }
+        List<String> invalidFiles = List.of("notJsonFormatAddressBook.json", "invalidPersonAddressBook.json",
+                "invalidAndValidPersonAddressBook.json", "duplicatePersonAddressBook.json",
+                "truncatedAddressBook.json", "missingPersonsAddressBook.json",
+                "invalidPersonThenTruncatedAddressBook.json");
+        for (String file : invalidFiles) {
+            DataLoadingException sequential = Assertions.assertThrows(DataLoadingException.class, () ->
+                    readAddressBook(file));
+            DataLoadingException parallel = Assertions.assertThrows(DataLoadingException.class, () ->
+                    readAddressBookInParallel(file));
+            assertEquals(sequential.getCause().getClass(), parallel.getCause().getClass());
+            if (sequential.getCause() instanceof IllegalValueException) {
+                assertEquals(sequential.getCause().getMessage(), parallel.getCause().getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonBeforeTruncation_reportsInvalidPerson() {
+        DataLoadingException e = Assertions.assertThrows(DataLoadingException.class, () ->
+                readAddressBookInParallel("invalidPersonThenTruncatedAddressBook.json"));
+        assertEquals(IllegalValueException.class, e.getCause().getClass());
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookInParallel(String filePath) throws Exception {
+        return new JsonAddressBookStorage(Paths.get(filePath), new StorageSettings().withParallelLoadEnabled(true))
+                .readAddressBook(addToTestDataPathIfNotNull(filePath));
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -86,6 +161,112 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_eachDurabilityPolicy_replacesFileWithoutTempFile() throws Exception {
+        Path filePath = testFolder.resolve("folder").resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        for (DurabilityPolicy policy : DurabilityPolicy.values()) {
+            JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath,
+                    new StorageSettings().withDurabilityPolicy(policy));
+            original.addPerson(new PersonBuilder().withName("Person " + policy.ordinal()).build());
+            jsonAddressBookStorage.saveAddressBook(original);
+            assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        }
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            assertEquals(List.of(filePath), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void saveAddressBook_compressionEnabled_compressedFileReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        Path uncompressedFilePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage compressingStorage = new JsonAddressBookStorage(filePath,
+                new StorageSettings().withCompressionEnabled(true));
+        compressingStorage.saveAddressBook(original);
+        new JsonAddressBookStorage(uncompressedFilePath).saveAddressBook(original);
+
+        byte[] content = Files.readAllBytes(filePath);
+        assertEquals((byte) 0x1f, content[0]);
+        assertEquals((byte) 0x8b, content[1]);
+        assertTrue(content.length < Files.size(uncompressedFilePath));
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(filePath))) {
+            assertEquals(Files.readString(uncompressedFilePath), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        // Compressed files are recognised whatever the setting
+        assertEquals(original, new AddressBook(compressingStorage.readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(compressingStorage.readAddressBook(uncompressedFilePath).get()));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_compactJsonEnabled_compactFileReadBack() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path verboseFilePath = testFolder.resolve("VerboseAddressBook.json");
+        LocalDateTime lastEdited = LocalDateTime.of(2025, 10, 1, 9, 30, 15, 123_000_000);
+        AddressBook original = getTypicalAddressBook();
+        Person withEditedNote = new PersonBuilder(HOON).withEmail(null).withAddress(null).withTags().build();
+        original.addPerson(new Person(withEditedNote.getName(), withEditedNote.getPhone(), null, null,
+                withEditedNote.getCompany(), withEditedNote.getTags(), new Note("Edited", lastEdited),
+                withEditedNote.getPriority()));
+        new JsonAddressBookStorage(filePath, new StorageSettings().withCompactJsonEnabled(true))
+                .saveAddressBook(original);
+        new JsonAddressBookStorage(verboseFilePath).saveAddressBook(original);
+
+        String content = Files.readString(filePath);
+        assertTrue(content.length() < Files.size(verboseFilePath) / 2);
+        assertFalse(content.contains("null"));
+        assertFalse(content.contains("\n"));
+        assertFalse(content.contains(" \""));
+        assertTrue(content.contains("\"noteLastEdited\":1759311015123"));
+
+        // Either layout is read whatever the setting
+        List<StorageSettings> allSettings = List.of(new StorageSettings(),
+                new StorageSettings().withParallelLoadEnabled(true));
+        for (StorageSettings settings : allSettings) {
+            ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath, settings).readAddressBook().get();
+            assertEquals(original, new AddressBook(readBack));
+            assertEquals(lastEdited, readBack.getPersonList().get(original.getPersonList().size() - 1)
+                    .getNote().getLastEdited());
+        }
+    }
+
+    @Test
+    public void readAddressBook_corruptCompressedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json.gz");
+        new JsonAddressBookStorage(filePath, new StorageSettings().withCompressionEnabled(true))
+                .saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void writeAddressBook_sameJsonAsSerializableAddressBook() throws Exception {
+        assertSameJsonAsSerializableAddressBook(new AddressBook());
+
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Full Person").withCompany("Acme, Inc.")
+                .withNote("Likes \"quotes\" and \\ backslashes").withPriority("2").withTags("b", "a").build());
+        addressBook.addPerson(new PersonBuilder(IDA).withEmail(null).withAddress(null).build());
+        Person withEditedNote = new PersonBuilder(HOON).build();
+        addressBook.addPerson(new Person(withEditedNote.getName(), withEditedNote.getPhone(),
+                withEditedNote.getEmail(), withEditedNote.getAddress(), withEditedNote.getCompany(),
+                withEditedNote.getTags(), new Note("Edited", LocalDateTime.of(2025, 10, 1, 9, 30, 15)),
+                withEditedNote.getPriority()));
+        assertSameJsonAsSerializableAddressBook(addressBook);
+    }
+
+    private void assertSameJsonAsSerializableAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStorage.writeAddressBook(addressBook, out);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                out.toString(StandardCharsets.UTF_8));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
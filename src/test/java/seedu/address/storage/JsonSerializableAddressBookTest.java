@@ -5,12 +5,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +48,50 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelTypeInParallel_typicalPersonsFile_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), dataFromFile.toModelTypeInParallel());
+    }
+
+    @Test
+    public void toModelTypeInParallel_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, dataFromFile::toModelTypeInParallel);
+    }
+
+    @Test
+    public void toModelTypeInParallel_duplicatePersons_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                dataFromFile::toModelTypeInParallel);
+    }
+
+    @Test
+    public void toModelTypeInParallel_duplicateBeforeInvalidPerson_reportsDuplicate() {
+        JsonAdaptedPerson alice = new JsonAdaptedPerson(TypicalPersons.ALICE);
+        JsonAdaptedPerson invalid = new JsonAdaptedPerson("Bob", "not a phone", null, null, null, null, null,
+                null, null);
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        persons.add(alice);
+        persons.add(alice);
+        persons.add(invalid);
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(persons);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                addressBook::toModelType);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                addressBook::toModelTypeInParallel);
+
+        persons.add(persons.size() - 2, invalid);
+        JsonSerializableAddressBook invalidFirst = new JsonSerializableAddressBook(persons);
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, invalidFirst::toModelType);
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, invalidFirst::toModelTypeInParallel);
+    }
+
 }
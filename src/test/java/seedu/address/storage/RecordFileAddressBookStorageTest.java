@@ -0,0 +1,291 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class RecordFileAddressBookStorageTest {
+
+    private static final StorageSettings RECORD_FILE_SETTINGS =
+            new StorageSettings().withDataFileFormat(DataFileFormat.RECORD_FILE);
+    private static final String LONG_NOTE = "A note too long for one slot. ".repeat(30);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path recordDirectory;
+    private RecordFileAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        recordDirectory = RecordFileAddressBookStorage.getRecordDirectoryPath(filePath);
+        storage = new RecordFileAddressBookStorage(filePath, RECORD_FILE_SETTINGS);
+    }
+
+    @Test
+    public void getRecordDirectoryPath_dataFilePath_siblingWithSuffix() {
+        assertEquals(testFolder.resolve("addressbook.json.records"), recordDirectory);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_untracked_writtenAfreshAndDataFileDeleted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(AMY).withNote(LONG_NOTE).build());
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(filePath));
+        assertTrue(RecordFileAddressBookStorage.isRecordFile(filePath));
+        assertEquals(original, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_trackedEdit_writesOneSlotAndOneIndexEntry() throws Exception {
+        AddressBook addressBook = startTracking(getTypicalAddressBook());
+        byte[] indexBefore = Files.readAllBytes(indexFile());
+        Object indexFileKeyBefore = indexFileKey();
+        long recordFileSizeBefore = Files.size(recordFile());
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        storage.saveAddressBook(addressBook);
+
+        // The index entry is patched in place
+        assertEquals(indexFileKeyBefore, indexFileKey());
+
+        // No slot is free yet, so the edited person goes into a new slot at the end
+        assertEquals(recordFileSizeBefore + RecordFileAddressBookStorage.SLOT_SIZE, Files.size(recordFile()));
+        assertOneEntryChanged(indexBefore, Files.readAllBytes(indexFile()));
+        assertEquals(addressBook, readAgain());
+
+        // The slot freed by the first edit is reused
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(recordFileSizeBefore + RecordFileAddressBookStorage.SLOT_SIZE, Files.size(recordFile()));
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_severalEdits_indexReplaced() throws Exception {
+        AddressBook addressBook = startTracking(getTypicalAddressBook());
+        Object indexFileKeyBefore = indexFileKey();
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build());
+        storage.saveAddressBook(addressBook);
+
+        // Patching several entries in place could leave a mix of two saves after a crash
+        assertNotEquals(indexFileKeyBefore, indexFileKey());
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_sort_onlyIndexRewritten() throws Exception {
+        AddressBook addressBook = startTracking(getTypicalAddressBook());
+        byte[] recordsBefore = Files.readAllBytes(recordFile());
+
+        addressBook.sortPersons(Comparator.comparing(person -> person.getPhone().value));
+        storage.saveAddressBook(addressBook);
+
+        assertArrayEquals(recordsBefore, Files.readAllBytes(recordFile()));
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_wholeListRestored_unchangedPersonsNotWritten() throws Exception {
+        AddressBook addressBook = startTracking(getTypicalAddressBook());
+        long recordFileSizeBefore = Files.size(recordFile());
+        List<Person> restored = new ArrayList<>(addressBook.getPersonList());
+        restored.set(1, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+
+        addressBook.setPersons(restored);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(recordFileSizeBefore + RecordFileAddressBookStorage.SLOT_SIZE, Files.size(recordFile()));
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_trackedChanges_sameAsWrittenAfresh() throws Exception {
+        AddressBook addressBook = startTracking(getTypicalAddressBook());
+
+        addressBook.addPerson(0, new PersonBuilder(AMY).withNote(LONG_NOTE).build());
+        addressBook.removePerson(CARL);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readAgain());
+
+        addressBook.addPerson(2, BOB);
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BOB, new PersonBuilder(BOB).withNote(LONG_NOTE).build());
+        addressBook.setPerson(addressBook.getPersonList().get(0), AMY);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_olderState_laterChangesSavedNextTime() throws Exception {
+        AddressBook addressBook = startTracking(getTypicalAddressBook());
+
+        addressBook.addPerson(AMY);
+        AddressBook olderState = new AddressBook(addressBook) {
+            private final long version = addressBook.getVersion();
+
+            @Override
+            public long getVersion() {
+                return version;
+            }
+        };
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(olderState);
+        assertEquals(new AddressBook(olderState), readAgain());
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_otherFormats_replaceEachOther() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+
+        storage.saveAddressBook(original);
+        assertFalse(ShardedAddressBookStorage.isSharded(filePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+
+        new ShardedAddressBookStorage(filePath).saveAddressBook(original);
+        assertFalse(RecordFileAddressBookStorage.isRecordFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_corruptSlot_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] records = Files.readAllBytes(recordFile());
+        // A byte of the name of the first person, in the first slot after the file and slot headers
+        records[16 + 11 + 2] ^= 1;
+        Files.write(recordFile(), records);
+
+        assertThrows(DataLoadingException.class, () -> readAgain());
+    }
+
+    @Test
+    public void readAddressBook_indexPointsPastRecordFile_throwsDataLoadingException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] index = Files.readAllBytes(indexFile());
+        // The second byte of the last entry, which is followed by the fingerprint of the replaced data file
+        int lastEntry = RecordFileAddressBookStorage.INDEX_FILE_HEADER_SIZE + 4 * (original.getPersonList().size() - 1);
+        index[lastEntry + 1] = 0x7F;
+        Files.write(indexFile(), index);
+
+        assertThrows(DataLoadingException.class, () -> readAgain());
+    }
+
+    @Test
+    public void readAddressBook_dataFileLeftBySaveInterruptedAfterCommit_recordFileRead() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Path leftDataFile = testFolder.resolve("left.json");
+        Files.createLink(leftDataFile, filePath);
+        AddressBook newer = new AddressBook();
+        newer.addPerson(AMY);
+
+        storage.saveAddressBook(newer);
+        // Puts back the very same data file, as if the save stopped before deleting it
+        Files.createLink(filePath, leftDataFile);
+
+        assertTrue(RecordFileAddressBookStorage.isRecordFile(filePath));
+        assertEquals(newer, readAgain());
+
+        // A data file saved after the record file is still read instead of it
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(RecordFileAddressBookStorage.isRecordFile(filePath));
+    }
+
+    /**
+     * Saves {@code original}, loads it back and starts tracking the loaded address book, as the app does on start
+     * up.
+     */
+    private AddressBook startTracking(AddressBook original) throws Exception {
+        storage.saveAddressBook(original);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.track(addressBook);
+        return addressBook;
+    }
+
+    private AddressBook readAgain() throws DataLoadingException {
+        return new AddressBook(new RecordFileAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    private Path indexFile() {
+        return recordDirectory.resolve(RecordFileAddressBookStorage.INDEX_FILE_NAME);
+    }
+
+    /**
+     * Returns the key of the index file, which changes when the index is replaced rather than written in place.
+     */
+    private Object indexFileKey() throws IOException {
+        return Files.readAttributes(indexFile(), BasicFileAttributes.class).fileKey();
+    }
+
+    private Path recordFile() throws IOException {
+        try (Stream<Path> files = Files.list(recordDirectory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("records-")).findFirst().get();
+        }
+    }
+
+    /**
+     * Checks that {@code before} and {@code after}, two contents of the index, differ in exactly one entry.
+     */
+    private static void assertOneEntryChanged(byte[] before, byte[] after) {
+        assertEquals(before.length, after.length);
+        List<Integer> changedEntries = new ArrayList<>();
+        for (int i = 0; i < before.length; i++) {
+            if (before[i] != after[i] && !changedEntries.contains(i / 4)) {
+                changedEntries.add(i / 4);
+            }
+        }
+        assertEquals(1, changedEntries.size());
+    }
+}
@@ -0,0 +1,316 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.StorageSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final StorageSettings SHARDED_SETTINGS =
+            new StorageSettings().withDataFileFormat(DataFileFormat.SHARDED);
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path shardDirectory;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        shardDirectory = ShardedAddressBookStorage.getShardDirectoryPath(filePath);
+    }
+
+    @Test
+    public void getShardDirectoryPath_dataFilePath_siblingWithSuffix() {
+        assertEquals(testFolder.resolve("addressbook.json.shards"), shardDirectory);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ShardedAddressBookStorage(filePath).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_untracked_allShardsWrittenAndDataFileDeleted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARDED_SETTINGS);
+
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(filePath));
+        assertTrue(ShardedAddressBookStorage.isSharded(filePath));
+        assertEquals(StorageSettings.DEFAULT_SHARD_COUNT, listShardFiles().size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_trackedEdit_rewritesOnlyTouchedShard() throws Exception {
+        ShardedAddressBookStorage storage = storage();
+        AddressBook addressBook = startTracking(storage, getTypicalAddressBook());
+        Set<String> filesBefore = listShardFiles();
+
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        storage.saveAddressBook(addressBook);
+
+        Set<String> newFiles = listShardFiles();
+        newFiles.removeAll(filesBefore);
+        assertEquals(1, newFiles.size());
+        assertEquals(StorageSettings.DEFAULT_SHARD_COUNT, listShardFiles().size());
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_trackedChanges_orderPreserved() throws Exception {
+        ShardedAddressBookStorage storage = storage();
+        AddressBook addressBook = startTracking(storage, getTypicalAddressBook());
+
+        addressBook.addPerson(0, AMY);
+        addressBook.removePerson(CARL);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readAgain());
+
+        addressBook.addPerson(2, BOB);
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(AMY, new PersonBuilder(AMY).withName("Amy Changed").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readAgain());
+
+        addressBook.sortPersons(Comparator.comparing(person -> person.getName().fullName));
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_manyInsertsAtOnePosition_orderPreserved() throws Exception {
+        ShardedAddressBookStorage storage = storage();
+        AddressBook addressBook = startTracking(storage, getTypicalAddressBook());
+
+        // Runs out of room between the first two order keys, so the keys are assigned afresh
+        for (int i = 0; i < 30; i++) {
+            addressBook.addPerson(1, new PersonBuilder().withName("Person " + i).build());
+            storage.saveAddressBook(addressBook);
+        }
+
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_olderSnapshot_laterChangesSavedNextTime() throws Exception {
+        ShardedAddressBookStorage storage = storage();
+        AddressBook addressBook = startTracking(storage, getTypicalAddressBook());
+
+        addressBook.addPerson(AMY);
+        ReadOnlyAddressBook snapshot = copyOf(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(snapshot);
+        assertEquals(new AddressBook(snapshot), readAgain());
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_shardCountChanged_allShardsRewritten() throws Exception {
+        storage().saveAddressBook(getTypicalAddressBook());
+        StorageSettings settings = SHARDED_SETTINGS.withShardCount(3);
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, settings);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.track(addressBook);
+
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(3, listShardFiles().size());
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void saveAddressBook_addressBookOutgrowsShards_shardsSplit() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(filePath, SHARDED_SETTINGS.withShardCount(1));
+        int halfFull = ShardedAddressBookStorage.MAX_PERSONS_PER_SHARD / 2;
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < halfFull; i++) {
+            original.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        AddressBook addressBook = startTracking(storage, original);
+        assertEquals(1, listShardFiles().size());
+
+        // The address book may double before the shard is split
+        for (int i = halfFull; i < 2 * halfFull; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, listShardFiles().size());
+
+        // One more person than the shard may hold on average, so the address book is split into half-full shards
+        addressBook.addPerson(AMY);
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, listShardFiles().size());
+        assertEquals(addressBook, readAgain());
+
+        // A single edit then rewrites one of the shards
+        Set<String> filesBefore = listShardFiles();
+        addressBook.setPerson(AMY, new PersonBuilder(AMY).withAddress(VALID_ADDRESS_BOB).build());
+        storage.saveAddressBook(addressBook);
+        Set<String> newFiles = listShardFiles();
+        newFiles.removeAll(filesBefore);
+        assertEquals(1, newFiles.size());
+        assertEquals(addressBook, readAgain());
+    }
+
+    @Test
+    public void readAddressBook_dataFileLeftBySaveInterruptedAfterCommit_shardsRead() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Path leftDataFile = testFolder.resolve("left.json");
+        Files.createLink(leftDataFile, filePath);
+        AddressBook newer = new AddressBook();
+        newer.addPerson(AMY);
+
+        storage().saveAddressBook(newer);
+        // Puts back the very same data file, as if the save stopped before deleting it
+        Files.createLink(filePath, leftDataFile);
+
+        assertTrue(ShardedAddressBookStorage.isSharded(filePath));
+        assertEquals(newer, readAgain());
+        assertEquals(newer, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // A data file saved after the shards is still read instead of them
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertFalse(ShardedAddressBookStorage.isSharded(filePath));
+        assertEquals(getTypicalAddressBook(), readAgain());
+    }
+
+    @Test
+    public void readAddressBook_dataFileExists_dataFileRead() throws Exception {
+        storage().saveAddressBook(getTypicalAddressBook());
+        AddressBook newer = new AddressBook();
+        newer.addPerson(AMY);
+        new JsonAddressBookStorage(filePath).saveAddressBook(newer);
+
+        assertEquals(newer, readAgain());
+    }
+
+    @Test
+    public void readAddressBook_otherStorages_readShards() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage().saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonInShard_throwsDataLoadingException() throws Exception {
+        storage().saveAddressBook(getTypicalAddressBook());
+        Path shardFile = shardDirectory.resolve(listShardFiles().stream()
+                .filter(this::holdsPersons).findFirst().get());
+        Files.writeString(shardFile, Files.readString(shardFile).replaceFirst("\"phone\" : \"\\d+\"",
+                "\"phone\" : \"not a phone\""));
+
+        assertThrows(DataLoadingException.class, () -> readAgain());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        storage().saveAddressBook(getTypicalAddressBook());
+        Files.delete(shardDirectory.resolve(listShardFiles().iterator().next()));
+
+        assertThrows(DataLoadingException.class, () -> readAgain());
+    }
+
+    private ShardedAddressBookStorage storage() {
+        return new ShardedAddressBookStorage(filePath, SHARDED_SETTINGS);
+    }
+
+    /**
+     * Saves {@code original} through {@code storage}, loads it back and starts tracking the loaded address book,
+     * as the app does on start up.
+     */
+    private AddressBook startTracking(ShardedAddressBookStorage storage, AddressBook original) throws Exception {
+        storage.saveAddressBook(original);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        storage.track(addressBook);
+        return addressBook;
+    }
+
+    private AddressBook readAgain() throws DataLoadingException {
+        return new AddressBook(storage().readAddressBook().get());
+    }
+
+    private Set<String> listShardFiles() throws IOException {
+        try (Stream<Path> files = Files.list(shardDirectory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> !name.equals(ShardedAddressBookStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+
+    private boolean holdsPersons(String shardFile) {
+        try {
+            return Files.readString(shardDirectory.resolve(shardFile)).contains("\"phone\"");
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code addressBook} with the same version, like the snapshots the model hands
+     * to background saves.
+     */
+    private static ReadOnlyAddressBook copyOf(AddressBook addressBook) {
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(List.copyOf(addressBook.getPersonList())));
+        long version = addressBook.getVersion();
+        return new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<Person> getPersonList() {
+                return persons;
+            }
+
+            @Override
+            public long getVersion() {
+                return version;
+            }
+        };
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -60,6 +61,26 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_withJournal_changesReplayed() throws Exception {
+        Path dataFilePath = getTempFilePath("journalled");
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(dataFilePath);
+        AddressBookJournal journal =
+                new AddressBookJournal(AddressBookJournal.getJournalFilePath(dataFilePath), Long.MAX_VALUE);
+        storageManager = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                journal);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        journal.track(addressBook);
+        storageManager.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storageManager.saveAddressBook(addressBook);
+
+        // the data file itself still holds the first save
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBookStorage.readAddressBook().get()));
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class WriteBehindSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindSaver saver;
+
+    @AfterEach
+    public void tearDown() {
+        if (saver != null) {
+            saver.close();
+        }
+    }
+
+    @Test
+    public void save_thenFlush_writesAddressBook() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        saver = new WriteBehindSaver(storage);
+        AddressBook original = getTypicalAddressBook();
+
+        saver.save(original);
+        saver.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_burstDuringWrite_coalescedIntoOneWrite() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteMayFinish = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = Collections.synchronizedList(new ArrayList<>());
+        saver = new WriteBehindSaver(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                written.add(addressBook);
+                firstWriteStarted.countDown();
+                try {
+                    firstWriteMayFinish.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+
+        AddressBook first = new AddressBook();
+        AddressBook second = new AddressBookBuilder().withPerson(ALICE).build();
+        AddressBook third = getTypicalAddressBook();
+        saver.save(first);
+        firstWriteStarted.await();
+        saver.save(second);
+        saver.save(third);
+        firstWriteMayFinish.countDown();
+        saver.flush();
+
+        assertEquals(2, written.size());
+        assertSame(first, written.get(0));
+        assertSame(third, written.get(1));
+    }
+
+    @Test
+    public void save_storageThrowsIoException_callsErrorHandler() {
+        IOException exception = new IOException("dummy IO exception");
+        saver = new WriteBehindSaver(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        });
+        List<IOException> errors = Collections.synchronizedList(new ArrayList<>());
+        saver.setErrorHandler(errors::add);
+
+        saver.save(new AddressBook());
+        saver.flush();
+
+        assertEquals(Collections.singletonList(exception), errors);
+    }
+
+    @Test
+    public void close_afterFailedWrite_retriesFailedSnapshot() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (attempts.getAndIncrement() == 0) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        saver = new WriteBehindSaver(storage);
+        List<ReadOnlyAddressBook> saved = Collections.synchronizedList(new ArrayList<>());
+        saver.setSuccessHandler(saved::add);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        saver.save(addressBook);
+        saver.flush();
+        assertTrue(saved.isEmpty());
+
+        saver.close();
+        assertEquals(Collections.singletonList(addressBook), saved);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+}